@@ -0,0 +1,244 @@
+/**
+ * Complex Number
+ * Immutable value type re + im·i for the complex roots found by
+ * Q6_AgeAndQuadratic, Q7_QuadraticRoots and PolynomialRoots.
+ * 
+ * Two ways to use it:
+ * - Complex objects for a few values (formatting, single checks)
+ * - static kernels over structure-of-arrays pairs re[] / im[], which
+ *   allocate nothing, for verifying millions of roots
+ * 
+ * Polynomial coefficients are highest power first, as in PolynomialRoots.
+ */
+public final class Complex {
+    
+    public static final Complex ZERO = new Complex(0, 0);
+    public static final Complex ONE = new Complex(1, 0);
+    public static final Complex I = new Complex(0, 1);
+    
+    // Default for isRoot: |p(z)| may be this many times the rounding error bound
+    public static final double DEFAULT_TOLERANCE = 64 * Math.ulp(1.0);
+    
+    public final double re;
+    public final double im;
+    
+    public Complex(double re, double im) {
+        this.re = re;
+        this.im = im;
+    }
+    
+    public static Complex ofReal(double re) {
+        return new Complex(re, 0);
+    }
+    
+    public Complex add(Complex other) {
+        return new Complex(re + other.re, im + other.im);
+    }
+    
+    public Complex subtract(Complex other) {
+        return new Complex(re - other.re, im - other.im);
+    }
+    
+    public Complex multiply(Complex other) {
+        return new Complex(re * other.re - im * other.im, re * other.im + im * other.re);
+    }
+    
+    public Complex scale(double factor) {
+        return new Complex(re * factor, im * factor);
+    }
+    
+    /**
+     * Division by Smith's method (no overflow from squaring the divisor)
+     */
+    public Complex divide(Complex other) {
+        if (Math.abs(other.re) >= Math.abs(other.im)) {
+            double ratio = other.im / other.re;
+            double denominator = other.re + other.im * ratio;
+            return new Complex((re + im * ratio) / denominator, (im - re * ratio) / denominator);
+        }
+        double ratio = other.re / other.im;
+        double denominator = other.re * ratio + other.im;
+        return new Complex((re * ratio + im) / denominator, (im * ratio - re) / denominator);
+    }
+    
+    public Complex negate() {
+        return new Complex(-re, -im);
+    }
+    
+    public Complex conjugate() {
+        return new Complex(re, -im);
+    }
+    
+    public double abs() {
+        return Math.hypot(re, im);
+    }
+    
+    public boolean isReal() {
+        return im == 0;
+    }
+    
+    /**
+     * Method to evaluate p(this) by Horner's rule
+     */
+    public Complex evaluate(double[] coefficients) {
+        double pr = coefficients[0];
+        double pi = 0;
+        for (int k = 1; k < coefficients.length; k++) {
+            double npr = pr * re - pi * im + coefficients[k];
+            pi = pr * im + pi * re;
+            pr = npr;
+        }
+        return new Complex(pr, pi);
+    }
+    
+    /**
+     * Method to check p(this) ≈ 0 (see isRoot)
+     */
+    public boolean isRootOf(double[] coefficients) {
+        return isRoot(coefficients, re, im, DEFAULT_TOLERANCE);
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Complex)) {
+            return false;
+        }
+        Complex other = (Complex) obj;
+        return Double.compare(re, other.re) == 0 && Double.compare(im, other.im) == 0;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(re) + Double.hashCode(im);
+    }
+    
+    /**
+     * Same layout as the root output of Q7: "x.xxxxxx + y.yyyyyyi"
+     */
+    @Override
+    public String toString() {
+        if (im == 0) {
+            return String.format("%.6f", re);
+        }
+        return String.format("%.6f %s %.6fi", re, im < 0 ? "-" : "+", Math.abs(im));
+    }
+    
+    /**
+     * Method to compute |p(re + im·i)| (this and the methods below take
+     * primitives or SoA arrays and allocate nothing)
+     */
+    public static double residual(double[] coefficients, double re, double im) {
+        double pr = coefficients[0];
+        double pi = 0;
+        for (int k = 1; k < coefficients.length; k++) {
+            double npr = pr * re - pi * im + coefficients[k];
+            pi = pr * im + pi * re;
+            pr = npr;
+        }
+        return Math.hypot(pr, pi);
+    }
+    
+    /**
+     * Method to compute Σ|cₖ||z|ⁿ⁻ᵏ, the scale of the rounding error in
+     * evaluating p(z); a computed |p(z)| near eps times this is as close
+     * to zero as double arithmetic can get
+     */
+    public static double errorBound(double[] coefficients, double re, double im) {
+        double modulus = Math.hypot(re, im);
+        double bound = Math.abs(coefficients[0]);
+        for (int k = 1; k < coefficients.length; k++) {
+            bound = bound * modulus + Math.abs(coefficients[k]);
+        }
+        return bound;
+    }
+    
+    /**
+     * Method to check that re + im·i is a root: |p(z)| ≤ tolerance · errorBound
+     */
+    public static boolean isRoot(double[] coefficients, double re, double im, double tolerance) {
+        double pr = coefficients[0];
+        double pi = 0;
+        double modulus = Math.sqrt(re * re + im * im);
+        double bound = Math.abs(coefficients[0]);
+        for (int k = 1; k < coefficients.length; k++) {
+            double npr = pr * re - pi * im + coefficients[k];
+            pi = pr * im + pi * re;
+            pr = npr;
+            bound = bound * modulus + Math.abs(coefficients[k]);
+        }
+        double limit = tolerance * bound;
+        return pr * pr + pi * pi <= limit * limit;
+    }
+    
+    /**
+     * Method to evaluate p at every point zᵢ = re[i] + im[i]·i
+     * 
+     * @param valueRe output: real parts of p(zᵢ)
+     * @param valueIm output: imaginary parts of p(zᵢ)
+     */
+    public static void evaluate(double[] coefficients, double[] re, double[] im,
+                                double[] valueRe, double[] valueIm) {
+        int n = re.length;
+        for (int i = 0; i < n; i++) {
+            double zr = re[i];
+            double zi = im[i];
+            double pr = coefficients[0];
+            double pi = 0;
+            for (int k = 1; k < coefficients.length; k++) {
+                double npr = pr * zr - pi * zi + coefficients[k];
+                pi = pr * zi + pi * zr;
+                pr = npr;
+            }
+            valueRe[i] = pr;
+            valueIm[i] = pi;
+        }
+    }
+    
+    /**
+     * Method to count the points in [from, to) that are not roots of p
+     * (0 means every root verified)
+     */
+    public static int countNonRoots(double[] coefficients, double[] re, double[] im,
+                                    int from, int to, double tolerance) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            failures += isRoot(coefficients, re[i], im[i], tolerance) ? 0 : 1;
+        }
+        return failures;
+    }
+    
+    /**
+     * Method to verify the output of Q7_QuadraticRoots.solveBatch / solveBatchStable.
+     * Both roots of each equation are checked (x₁,₂ = root ± imaginary·i for
+     * KIND_COMPLEX). KIND_INVALID entries hold NaN roots and count as failures.
+     * 
+     * @return the number of equations with a root that fails the check
+     */
+    public static int verifyQuadraticBatch(double[] a, double[] b, double[] c,
+                                           double[] root1, double[] root2, double[] imaginary,
+                                           byte[] kind, double tolerance) {
+        int failures = 0;
+        int n = a.length;
+        for (int i = 0; i < n; i++) {
+            double yi = kind[i] == Q7_QuadraticRoots.KIND_COMPLEX ? imaginary[i] : 0;
+            boolean ok = isQuadraticRoot(a[i], b[i], c[i], root1[i], yi, tolerance)
+                && isQuadraticRoot(a[i], b[i], c[i], root2[i], -yi, tolerance);
+            failures += ok ? 0 : 1;
+        }
+        return failures;
+    }
+    
+    /**
+     * Helper method: isRoot for ax² + bx + c without a coefficient array
+     */
+    private static boolean isQuadraticRoot(double a, double b, double c, double x, double y, double tolerance) {
+        // p(z) = (az + b)z + c
+        double tr = a * x + b;
+        double ti = a * y;
+        double pr = tr * x - ti * y + c;
+        double pi = tr * y + ti * x;
+        double modulus = Math.sqrt(x * x + y * y);
+        double limit = tolerance * ((Math.abs(a) * modulus + Math.abs(b)) * modulus + Math.abs(c));
+        return pr * pr + pi * pi <= limit * limit;
+    }
+}
@@ -3,7 +3,6 @@ import java.util.Map;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Comparator;
-import java.util.Arrays;
 import java.util.Scanner;
 import java.io.PrintWriter;
 import java.io.IOException;
@@ -211,15 +210,10 @@ public class NMSRainfall {
     }
     
     /**
-     * Calculate median value
+     * Calculate median value (selection on a copy, no full sort)
      */
     private static double calculateMedian(int[] arr) {
-        int[] sorted = arr.clone();
-        Arrays.sort(sorted);
-        if (sorted.length % 2 == 0) {
-            return (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2.0;
-        }
-        return sorted[sorted.length / 2];
+        return Selection.median(arr);
     }
     
     /**
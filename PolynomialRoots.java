@@ -0,0 +1,584 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Scanner;
+
+/**
+ * Polynomial Roots Solver
+ * Finds all complex roots of c₀xⁿ + c₁xⁿ⁻¹ + ... + cₙ = 0 (real coefficients)
+ * 
+ * Extends Q7_QuadraticRoots to any degree:
+ * - Degree 1: x = -c₁ / c₀
+ * - Degree 2: the numerically stable quadratic method of Q7
+ * - Degree 3: closed form (trigonometric / Cardano), polished by Newton steps
+ * - Degree 4 and higher: Aberth-Ehrlich simultaneous iteration
+ *   (Ferrari's quartic formula cancels badly, so quartics go here too)
+ * 
+ * Coefficients are given highest power first, like a, b, c in Q7.
+ * Roots are written as primitive arrays re[] and im[]; a real root has
+ * im = 0 and complex roots come in conjugate pairs. Nothing is allocated
+ * per polynomial, so the batch mode can solve millions of them.
+ */
+public class PolynomialRoots {
+    
+    // Aberth-Ehrlich stops after this many sweeps even if not converged
+    private static final int MAX_ITERATIONS = 200;
+    
+    // A root is converged once |p(z)| is below this multiple of the Horner
+    // rounding error bound; the iteration ends when a sweep converges every root
+    private static final double CONVERGENCE_TOLERANCE = 4 * Math.ulp(1.0);
+    
+    // Imaginary parts below this fraction of |z| are rounding noise and set to 0
+    private static final double REAL_ROOT_TOLERANCE = 1e-12;
+    
+    // Holds benchmark results so the JIT cannot discard the measured work
+    private static volatile double benchmarkSink;
+    
+    /**
+     * Method to find all roots of a polynomial
+     * 
+     * @param coefficients c₀ ... cₙ, highest power first; leading zeros are ignored
+     * @param re           output: real parts (length at least n)
+     * @param im           output: imaginary parts (length at least n)
+     * @return the degree n, i.e. the number of roots written
+     * @throws IllegalArgumentException if the polynomial is constant
+     */
+    public static int solve(double[] coefficients, double[] re, double[] im) {
+        int degree = solve(coefficients, 0, coefficients.length - 1, re, im, 0);
+        if (degree < 1) {
+            throw new IllegalArgumentException("polynomial must have degree at least 1");
+        }
+        return degree;
+    }
+    
+    /**
+     * Batch mode: solve many polynomials of the same degree at once.
+     * Polynomial k occupies coefficients[k(n+1) ... k(n+1)+n] and its roots
+     * go to re/im[k·n ... k·n+n-1]. If a polynomial has leading zero
+     * coefficients, its missing roots are set to NaN.
+     * 
+     * @param coefficients concatenated coefficient blocks of length degree + 1
+     * @param degree       the degree n shared by all polynomials
+     * @param re           output: real parts, n per polynomial
+     * @param im           output: imaginary parts, n per polynomial
+     */
+    public static void solveBatch(double[] coefficients, int degree, double[] re, double[] im) {
+        if (degree < 1) {
+            throw new IllegalArgumentException("degree must be at least 1");
+        }
+        int count = coefficients.length / (degree + 1);
+        for (int k = 0; k < count; k++) {
+            int rootOffset = k * degree;
+            int found = solve(coefficients, k * (degree + 1), degree, re, im, rootOffset);
+            for (int i = Math.max(found, 0); i < degree; i++) {
+                re[rootOffset + i] = Double.NaN;
+                im[rootOffset + i] = Double.NaN;
+            }
+        }
+    }
+    
+    /**
+     * Helper method: solve the polynomial coefficients[offset ... offset+degree]
+     * and write its roots from re/im[rootOffset]
+     * 
+     * @return number of roots written (the true degree), or 0 for a constant
+     */
+    private static int solve(double[] coefficients, int offset, int degree,
+                             double[] re, double[] im, int rootOffset) {
+        // Leading zeros lower the degree
+        while (degree > 0 && coefficients[offset] == 0) {
+            offset++;
+            degree--;
+        }
+        
+        // Trailing zeros are exact roots at x = 0
+        int zeros = 0;
+        while (zeros < degree && coefficients[offset + degree - zeros] == 0) {
+            re[rootOffset + zeros] = 0;
+            im[rootOffset + zeros] = 0;
+            zeros++;
+        }
+        int n = degree - zeros;
+        int out = rootOffset + zeros;
+        
+        switch (n) {
+            case 0:
+                break;
+            case 1:
+                re[out] = -coefficients[offset + 1] / coefficients[offset];
+                im[out] = 0;
+                break;
+            case 2:
+                solveQuadratic(coefficients[offset], coefficients[offset + 1], coefficients[offset + 2], re, im, out);
+                break;
+            case 3:
+                solveCubic(coefficients, offset, re, im, out);
+                break;
+            default:
+                solveAberth(coefficients, offset, n, re, im, out);
+        }
+        return degree;
+    }
+    
+    /**
+     * Helper method: quadratic ax² + bx + c with the stable method of
+     * Q7_QuadraticRoots (compensated discriminant, citardauq roots)
+     */
+    private static void solveQuadratic(double a, double b, double c, double[] re, double[] im, int out) {
+        double discriminant = Q7_QuadraticRoots.stableDiscriminant(a, b, c);
+        
+        if (Q7_QuadraticRoots.isNegligible(discriminant, a, b, c)) {
+            re[out] = re[out + 1] = -b / (2 * a);
+            im[out] = im[out + 1] = 0;
+        } else if (discriminant > 0) {
+            // Same root order as Q7_QuadraticRoots.solveStable (x₁ from the +√d branch)
+            double q = Q7_QuadraticRoots.citardauqQ(b, Math.sqrt(discriminant));
+            boolean plusIsCOverQ = Q7_QuadraticRoots.plusRootIsCOverQ(b);
+            re[out] = plusIsCOverQ ? c / q : q / a;
+            re[out + 1] = plusIsCOverQ ? q / a : c / q;
+            im[out] = im[out + 1] = 0;
+        } else {
+            double imaginaryPart = Math.abs(Math.sqrt(-discriminant) / (2 * a));
+            re[out] = re[out + 1] = -b / (2 * a);
+            im[out] = imaginaryPart;
+            im[out + 1] = -imaginaryPart;
+        }
+    }
+    
+    /**
+     * Helper method: cubic c₀x³ + c₁x² + c₂x + c₃ (c₃ != 0).
+     * Three real roots use the trigonometric form, otherwise Cardano's
+     * form arranged to avoid cancellation. Real roots then get Newton
+     * steps against the original coefficients.
+     */
+    private static void solveCubic(double[] coefficients, int offset, double[] re, double[] im, int out) {
+        double lead = coefficients[offset];
+        double a = coefficients[offset + 1] / lead;
+        double b = coefficients[offset + 2] / lead;
+        double c = coefficients[offset + 3] / lead;
+        
+        // x = t - a/3 gives t³ - 3Qt + 2R = 0
+        double q = (a * a - 3 * b) / 9;
+        double r = (2 * a * a * a - 9 * a * b + 27 * c) / 54;
+        double shift = a / 3;
+        double q3 = q * q * q;
+        
+        if (r * r < q3) {
+            double theta = Math.acos(r / Math.sqrt(q3));
+            double scale = -2 * Math.sqrt(q);
+            re[out] = scale * Math.cos(theta / 3) - shift;
+            re[out + 1] = scale * Math.cos((theta + 2 * Math.PI) / 3) - shift;
+            re[out + 2] = scale * Math.cos((theta - 2 * Math.PI) / 3) - shift;
+            im[out] = im[out + 1] = im[out + 2] = 0;
+            for (int i = 0; i < 3; i++) {
+                re[out + i] = polishRealRoot(coefficients, offset, 3, re[out + i]);
+            }
+        } else {
+            double s = -Math.copySign(Math.cbrt(Math.abs(r) + Math.sqrt(r * r - q3)), r);
+            double t = s == 0 ? 0 : q / s;
+            double imaginaryPart = Math.abs(Math.sqrt(3) / 2 * (s - t));
+            
+            re[out] = polishRealRoot(coefficients, offset, 3, s + t - shift);
+            im[out] = 0;
+            re[out + 1] = re[out + 2] = -0.5 * (s + t) - shift;
+            im[out + 1] = imaginaryPart;
+            im[out + 2] = -imaginaryPart;
+            
+            if (imaginaryPart <= REAL_ROOT_TOLERANCE * Math.abs(re[out + 1])) {
+                im[out + 1] = im[out + 2] = 0;
+            }
+        }
+    }
+    
+    /**
+     * Helper method: up to two Newton steps on a real root, each kept only
+     * if it reduces |p(x)|
+     */
+    private static double polishRealRoot(double[] coefficients, int offset, int degree, double x) {
+        for (int step = 0; step < 2; step++) {
+            double p = coefficients[offset];
+            double dp = 0;
+            for (int k = 1; k <= degree; k++) {
+                dp = dp * x + p;
+                p = p * x + coefficients[offset + k];
+            }
+            if (p == 0 || dp == 0) {
+                return x;
+            }
+            double next = x - p / dp;
+            double pNext = coefficients[offset];
+            for (int k = 1; k <= degree; k++) {
+                pNext = pNext * next + coefficients[offset + k];
+            }
+            if (!(Math.abs(pNext) < Math.abs(p))) {
+                return x;
+            }
+            x = next;
+        }
+        return x;
+    }
+    
+    /**
+     * Helper method: Aberth-Ehrlich iteration for degree n ≥ 4.
+     * All n approximations are refined together:
+     *   zᵢ ← zᵢ - wᵢ,  wᵢ = p(zᵢ) / (p'(zᵢ) - p(zᵢ)·Σⱼ≠ᵢ 1/(zᵢ - zⱼ))
+     * Converges cubically for simple roots; re/im double as the working set,
+     * updated in place (Gauss-Seidel style).
+     */
+    private static void solveAberth(double[] coefficients, int offset, int n,
+                                    double[] re, double[] im, int out) {
+        // Start on a circle around the root centroid, with radius equal to
+        // the geometric mean of the root moduli; the angle offset breaks symmetry
+        double lead = coefficients[offset];
+        double centre = -coefficients[offset + 1] / (n * lead);
+        double radius = Math.pow(Math.abs(coefficients[offset + n] / lead), 1.0 / n);
+        for (int i = 0; i < n; i++) {
+            double angle = 2 * Math.PI * i / n + 0.4;
+            re[out + i] = centre + radius * Math.cos(angle);
+            im[out + i] = radius * Math.sin(angle);
+        }
+        
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            boolean allConverged = true;
+            
+            for (int i = out; i < out + n; i++) {
+                double zr = re[i];
+                double zi = im[i];
+                
+                // Horner for p(z) and p'(z) together, plus the rounding
+                // error bound Σ|cₖ||z|ⁿ⁻ᵏ of the evaluation
+                double pr = lead, pi = 0, dr = 0, di = 0;
+                double modulus = Math.sqrt(zr * zr + zi * zi);
+                double bound = Math.abs(lead);
+                for (int k = 1; k <= n; k++) {
+                    bound = bound * modulus + Math.abs(coefficients[offset + k]);
+                    double ndr = dr * zr - di * zi + pr;
+                    double ndi = dr * zi + di * zr + pi;
+                    dr = ndr;
+                    di = ndi;
+                    double npr = pr * zr - pi * zi + coefficients[offset + k];
+                    double npi = pr * zi + pi * zr;
+                    pr = npr;
+                    pi = npi;
+                }
+                double limit = CONVERGENCE_TOLERANCE * bound;
+                if (pr * pr + pi * pi <= limit * limit) {
+                    continue;  // p(z) is zero up to rounding: nothing left to gain
+                }
+                allConverged = false;
+                
+                // Σ 1/(zᵢ - zⱼ)
+                double sr = 0, si = 0;
+                for (int j = out; j < out + n; j++) {
+                    if (j == i) {
+                        continue;
+                    }
+                    double ur = zr - re[j];
+                    double ui = zi - im[j];
+                    double norm = ur * ur + ui * ui;
+                    sr += ur / norm;
+                    si -= ui / norm;
+                }
+                
+                // w = p / (p' - p·S)
+                double denomR = dr - (pr * sr - pi * si);
+                double denomI = di - (pr * si + pi * sr);
+                double denomNorm = denomR * denomR + denomI * denomI;
+                if (denomNorm == 0) {
+                    continue;
+                }
+                double wr = (pr * denomR + pi * denomI) / denomNorm;
+                double wi = (pi * denomR - pr * denomI) / denomNorm;
+                
+                re[i] = zr - wr;
+                im[i] = zi - wi;
+            }
+            
+            if (allConverged) {
+                break;
+            }
+        }
+        
+        for (int i = out; i < out + n; i++) {
+            if (Math.abs(im[i]) <= REAL_ROOT_TOLERANCE * Math.abs(re[i])) {
+                im[i] = 0;
+            }
+        }
+    }
+    
+    /**
+     * Method to compute |p(z)| for a complex z (used to check roots)
+     */
+    public static double residual(double[] coefficients, double re, double im) {
+        return Complex.residual(coefficients, re, im);
+    }
+    
+    /**
+     * Method to display the roots of a polynomial
+     */
+    public static void displayRoots(double[] coefficients) {
+        double[] re = new double[coefficients.length];
+        double[] im = new double[coefficients.length];
+        int degree = solve(coefficients, re, im);
+        
+        System.out.printf("\nPolynomial: %s = 0%n", formatPolynomial(coefficients));
+        System.out.printf("Degree: %d%n", degree);
+        System.out.println("\n✅ ROOTS:");
+        for (int i = 0; i < degree; i++) {
+            if (im[i] == 0) {
+                System.out.printf("   x%d = %.6f", i + 1, re[i]);
+            } else {
+                System.out.printf("   x%d = %.6f %s %.6fi", i + 1, re[i], im[i] < 0 ? "-" : "+", Math.abs(im[i]));
+            }
+            System.out.printf("    |p(x)| = %.2e%n", residual(coefficients, re[i], im[i]));
+        }
+    }
+    
+    /**
+     * Helper method: format c₀xⁿ + ... + cₙ
+     */
+    private static String formatPolynomial(double[] coefficients) {
+        StringBuilder sb = new StringBuilder();
+        int n = coefficients.length - 1;
+        for (int k = 0; k <= n; k++) {
+            if (coefficients[k] == 0 && n > 0) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(coefficients[k] < 0 ? " - " : " + ");
+            } else if (coefficients[k] < 0) {
+                sb.append("-");
+            }
+            sb.append(String.format("%.2f", Math.abs(coefficients[k])));
+            int power = n - k;
+            if (power > 1) {
+                sb.append("x^").append(power);
+            } else if (power == 1) {
+                sb.append("x");
+            }
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Benchmark mode: java PolynomialRoots --benchmark [polynomials]
+     * Times the batch mode per degree (nanoTime, best of several runs)
+     * and compares degree 2 with Q7_QuadraticRoots.solveBatchStable
+     */
+    public static void runBenchmark(int polynomials) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.printf("    POLYNOMIAL ROOTS BENCHMARK (%,d polynomials per batch)%n", polynomials);
+        System.out.println("=".repeat(70));
+        
+        // Degree 2: general entry point vs the Q7 fast path on the same equations
+        Random random = new Random(5);
+        double[] a = new double[polynomials];
+        double[] b = new double[polynomials];
+        double[] c = new double[polynomials];
+        double[] packed = new double[3 * polynomials];
+        for (int i = 0; i < polynomials; i++) {
+            a[i] = packed[3 * i] = 0.5 + random.nextDouble();
+            b[i] = packed[3 * i + 1] = 4 * random.nextDouble() - 2;
+            c[i] = packed[3 * i + 2] = 4 * random.nextDouble() - 2;
+        }
+        double[] root1 = new double[polynomials];
+        double[] root2 = new double[polynomials];
+        double[] imaginary = new double[polynomials];
+        byte[] kind = new byte[polynomials];
+        double[] re = new double[2 * polynomials];
+        double[] im = new double[2 * polynomials];
+        
+        long fastPath = Long.MAX_VALUE;
+        long general = Long.MAX_VALUE;
+        for (int run = 0; run < 7; run++) {
+            long start = System.nanoTime();
+            Q7_QuadraticRoots.solveBatchStable(a, b, c, root1, root2, imaginary, kind);
+            fastPath = Math.min(fastPath, System.nanoTime() - start);
+            
+            start = System.nanoTime();
+            solveBatch(packed, 2, re, im);
+            general = Math.min(general, System.nanoTime() - start);
+            benchmarkSink += root1[run] + re[run];
+        }
+        
+        System.out.printf("%n%-38s %16s%n", "degree 2", "Mpolynomials/s");
+        System.out.println("-".repeat(56));
+        System.out.printf("%-38s %16.1f%n", "Q7_QuadraticRoots.solveBatchStable", polynomials / (fastPath / 1000.0));
+        System.out.printf("%-38s %16.1f%n", "PolynomialRoots.solveBatch", polynomials / (general / 1000.0));
+        
+        // Both paths must return the same real roots in the same order, also for b = -0.0
+        int differing = 0;
+        for (int i = 0; i < polynomials; i++) {
+            if (kind[i] == Q7_QuadraticRoots.KIND_DISTINCT && (root1[i] != re[2 * i] || root2[i] != re[2 * i + 1])) {
+                differing++;
+            }
+        }
+        double[] signedZero = new double[2];
+        solve(new double[] {1, -0.0, -4}, signedZero, new double[2]);
+        Q7_QuadraticRoots.QuadraticSolution expected = Q7_QuadraticRoots.solveStable(1, -0.0, -4);
+        if (signedZero[0] != expected.root1 || signedZero[1] != expected.root2) {
+            differing++;
+        }
+        System.out.printf("Real roots in a different order or value than Q7: %d%n", differing);
+        
+        // Higher degrees: polynomials built from known random roots
+        // (the max error is set by the worst-conditioned polynomial, i.e. the closest random roots)
+        System.out.printf("%n%-8s %-16s %16s %16s %16s%n", "degree", "method", "Mpolynomials/s", "median error", "max error");
+        System.out.println("-".repeat(76));
+        for (int degree : new int[] {3, 4, 5, 8, 16}) {
+            benchmarkDegree(degree, Math.max(polynomials / degree, 1), random);
+        }
+    }
+    
+    /**
+     * Helper method: time solveBatch for one degree and measure the distance
+     * from each computed root to the nearest known root (median and max)
+     */
+    private static void benchmarkDegree(int degree, int polynomials, Random random) {
+        double[] packed = new double[(degree + 1) * polynomials];
+        double[][] exact = new double[polynomials][];
+        for (int k = 0; k < polynomials; k++) {
+            exact[k] = new double[2 * degree];
+            double[] poly = randomPolynomial(degree, exact[k], random);
+            System.arraycopy(poly, 0, packed, k * (degree + 1), degree + 1);
+        }
+        double[] re = new double[degree * polynomials];
+        double[] im = new double[degree * polynomials];
+        
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            solveBatch(packed, degree, re, im);
+            best = Math.min(best, System.nanoTime() - start);
+            benchmarkSink += re[run % re.length];
+        }
+        
+        double[] errors = new double[degree * polynomials];
+        for (int k = 0; k < polynomials; k++) {
+            for (int i = 0; i < degree; i++) {
+                double nearest = Double.MAX_VALUE;
+                for (int j = 0; j < degree; j++) {
+                    nearest = Math.min(nearest, Math.hypot(re[k * degree + i] - exact[k][2 * j], im[k * degree + i] - exact[k][2 * j + 1]));
+                }
+                errors[k * degree + i] = nearest;
+            }
+        }
+        Arrays.sort(errors);
+        
+        System.out.printf("%-8d %-16s %16.2f %16.2e %16.2e%n", degree, degree == 3 ? "closed form" : "Aberth-Ehrlich",
+            polynomials / (best / 1000.0), errors[errors.length / 2], errors[errors.length - 1]);
+    }
+    
+    /**
+     * Helper method: monic polynomial with random well-separated roots
+     * (real roots and conjugate pairs), roots stored as (re, im) pairs
+     */
+    private static double[] randomPolynomial(int degree, double[] roots, Random random) {
+        double[] poly = {1};
+        int i = 0;
+        while (i < degree) {
+            double x = 4 * random.nextDouble() - 2;
+            if (degree - i >= 2 && random.nextBoolean()) {
+                double y = 0.2 + random.nextDouble();
+                roots[2 * i] = roots[2 * i + 2] = x;
+                roots[2 * i + 1] = y;
+                roots[2 * i + 3] = -y;
+                poly = multiply(poly, new double[] {1, -2 * x, x * x + y * y});
+                i += 2;
+            } else {
+                roots[2 * i] = x;
+                roots[2 * i + 1] = 0;
+                poly = multiply(poly, new double[] {1, -x});
+                i++;
+            }
+        }
+        return poly;
+    }
+    
+    /**
+     * Helper method: product of two polynomials (highest power first)
+     */
+    private static double[] multiply(double[] p, double[] q) {
+        double[] result = new double[p.length + q.length - 1];
+        for (int i = 0; i < p.length; i++) {
+            for (int j = 0; j < q.length; j++) {
+                result[i + j] += p[i] * q[j];
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Main method with interactive mode
+     */
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--benchmark")) {
+            runBenchmark(args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000);
+            return;
+        }
+        
+        Scanner scanner = new Scanner(System.in);
+        
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("              POLYNOMIAL ROOTS SOLVER");
+        System.out.println("=".repeat(70));
+        System.out.println("\nThis program finds all roots of c₀xⁿ + c₁xⁿ⁻¹ + ... + cₙ = 0\n");
+        
+        System.out.print("Enter the degree n (at least 1): ");
+        int degree = getValidInt(scanner);
+        
+        if (degree < 1) {
+            System.out.println("❌ Error: degree must be at least 1!");
+        } else {
+            double[] coefficients = new double[degree + 1];
+            for (int k = 0; k <= degree; k++) {
+                System.out.printf("Enter coefficient c%d (of x^%d): ", k, degree - k);
+                coefficients[k] = getValidDouble(scanner);
+            }
+            
+            if (coefficients[0] == 0) {
+                System.out.println("❌ Error: leading coefficient c0 must be non-zero!");
+            } else {
+                displayRoots(coefficients);
+            }
+        }
+        
+        // Display example problems
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("                  EXAMPLE PROBLEMS");
+        System.out.println("=".repeat(70));
+        
+        System.out.println("\n📌 Example 1: x³ - 6x² + 11x - 6 = 0");
+        displayRoots(new double[] {1, -6, 11, -6});
+        
+        System.out.println("\n📌 Example 2: x⁴ - 1 = 0");
+        displayRoots(new double[] {1, 0, 0, 0, -1});
+        
+        System.out.println("\n📌 Example 3: x⁵ - 3x⁴ + 2x³ - x + 3 = 0");
+        displayRoots(new double[] {1, -3, 2, 0, -1, 3});
+        
+        System.out.println("\n" + "=".repeat(70) + "\n");
+        scanner.close();
+    }
+    
+    /**
+     * Helper method for valid integer input
+     */
+    private static int getValidInt(Scanner scanner) {
+        while (!scanner.hasNextInt()) {
+            System.out.println("❌ Invalid input! Please enter a valid integer: ");
+            scanner.nextLine();
+        }
+        return scanner.nextInt();
+    }
+    
+    /**
+     * Helper method for valid double input
+     */
+    private static double getValidDouble(Scanner scanner) {
+        while (!scanner.hasNextDouble()) {
+            System.out.println("❌ Invalid input! Please enter a valid number: ");
+            scanner.nextLine();
+        }
+        return scanner.nextDouble();
+    }
+}
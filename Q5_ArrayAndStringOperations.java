@@ -1,7 +1,28 @@
 import java.util.Scanner;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongSupplier;
+import java.util.function.ObjIntConsumer;
 
 /**
  * Q5: Array and String Operations
@@ -17,8 +38,52 @@ import java.util.Arrays;
  */
 public class Q5_ArrayAndStringOperations {
     
-    // Cache for word frequency
-    private static Map<String, Integer> wordFrequencyCache = new HashMap<>();
+    // ASCII characters matched by the original split pattern "\\s+|[.,!?;:\"-]+"
+    private static final boolean[] WORD_DELIMITERS = new boolean[128];
+    
+    // Word delimiters outside ASCII, one bit per BMP char: Unicode white
+    // space and punctuation, except the right single quote used as an apostrophe
+    private static final long[] UNICODE_DELIMITERS = new long[65536 / 64];
+    
+    // Locale-independent simple case folding for every BMP char
+    private static final char[] CASE_FOLD = new char[65536];
+    
+    static {
+        for (char c : " \t\n\u000B\f\r.,!?;:\"-".toCharArray()) {
+            WORD_DELIMITERS[c] = true;
+        }
+        
+        for (int c = 128; c < 65536; c++) {
+            if (c != '\u2019' && (Character.isWhitespace(c) || Character.isSpaceChar(c) || isPunctuation(c))) {
+                UNICODE_DELIMITERS[c >>> 6] |= 1L << c;
+            }
+        }
+        
+        for (int c = 0; c < 65536; c++) {
+            CASE_FOLD[c] = Character.isSurrogate((char) c) ? (char) c : (char) foldCodePoint(c);
+        }
+    }
+    
+    // Holds benchmark results so the JIT cannot discard the measured work
+    private static volatile long benchmarkSink;
+    
+    // Arrays shorter than this are always summed on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+    
+    // Number of elements each fork/join leaf task scans sequentially
+    private static final int PARALLEL_LEAF_SIZE = 1 << 16;
+    
+    // Texts shorter than this (in chars) are tokenized on the calling thread,
+    // and this is also the chunk size for parallel word counting
+    private static final int PARALLEL_TEXT_CHUNK = 1 << 20;
+    
+    // Buffer sizes for streaming word counts (bytes read, chars decoded)
+    private static final int STREAM_BYTE_BUFFER = 1 << 16;
+    private static final int STREAM_CHAR_BUFFER = 1 << 16;
+    
+    // Bytes per memory-mapped window (a multiple of 16, so every window
+    // holds an even number of ints, longs or doubles)
+    private static final long MAP_WINDOW_BYTES = 1L << 30;
     
     /**
      * (a) Method to compute sum of elements at even indexes (2, 4, 6...)
@@ -56,151 +121,2246 @@ public class Q5_ArrayAndStringOperations {
         for (int i = 2; i < arr.length; i += 2) {
             sum += arr[i];
         }
-        return sum;
+        return sum;
+    }
+    
+    /**
+     * Overloaded method for long arrays
+     */
+    public static long sumEvenIndexes(long[] arr) {
+        if (arr == null) {
+            System.out.println("❌ Error: Array is null!");
+            return 0;
+        }
+        
+        long sum = 0;
+        for (int i = 2; i < arr.length; i += 2) {
+            sum += arr[i];
+        }
+        return sum;
+    }
+    
+    /**
+     * Parallel version of sumEvenIndexes for very large arrays.
+     * The stride-2 index space is split across the common ForkJoinPool;
+     * arrays below PARALLEL_THRESHOLD are summed sequentially.
+     * 
+     * @param arr the input array
+     * @return sum of elements at even indexes
+     */
+    public static long sumEvenIndexesParallel(int[] arr) {
+        if (arr == null || !useParallel(arr.length)) {
+            return sumEvenIndexes(arr);
+        }
+        return computeEvenIndexStats(arr).sum;
+    }
+    
+    /**
+     * Parallel version of sumEvenIndexes for long arrays
+     */
+    public static long sumEvenIndexesParallel(long[] arr) {
+        if (arr == null || !useParallel(arr.length)) {
+            return sumEvenIndexes(arr);
+        }
+        return ForkJoinPool.commonPool().invoke(new LongEvenIndexSumTask(arr, 2, arr.length));
+    }
+    
+    /**
+     * Parallel version of sumEvenIndexes for double arrays
+     * Note: partial sums are added in a different order than the
+     * sequential loop, so the last bits of the result may differ.
+     */
+    public static double sumEvenIndexesParallel(double[] arr) {
+        if (arr == null || !useParallel(arr.length)) {
+            return sumEvenIndexes(arr);
+        }
+        return ForkJoinPool.commonPool().invoke(new DoubleEvenIndexSumTask(arr, 2, arr.length));
+    }
+    
+    /**
+     * Method to compute sum, count, min and max of the elements at even
+     * indexes (2, 4, 6...), splitting the work in parallel for large arrays
+     * 
+     * @param arr the input array (must have at least 3 elements)
+     * @return combined statistics for the even indexes
+     */
+    public static EvenIndexStats computeEvenIndexStats(int[] arr) {
+        if (!useParallel(arr.length)) {
+            return EvenIndexStats.of(arr, 2, arr.length);
+        }
+        return ForkJoinPool.commonPool().invoke(new EvenIndexStatsTask(arr, 2, arr.length));
+    }
+    
+    /**
+     * Method to get statistics about array elements at even indexes
+     */
+    public static void displayEvenIndexStats(int[] arr) {
+        if (arr == null || arr.length < 3) {
+            System.out.println("❌ Array must have at least 3 elements!");
+            return;
+        }
+        
+        EvenIndexStats stats = computeEvenIndexStats(arr);
+        
+        double average = (double) stats.sum / stats.count;
+        
+        System.out.println("\n📊 Statistics for Even Indexes (2, 4, 6...):");
+        System.out.println("-".repeat(50));
+        System.out.printf("Sum:\t\t%d%n", stats.sum);
+        System.out.printf("Count:\t\t%d%n", stats.count);
+        System.out.printf("Average:\t%.2f%n", average);
+        System.out.printf("Maximum:\t%d%n", stats.max);
+        System.out.printf("Minimum:\t%d%n", stats.min);
+    }
+    
+    /**
+     * Overloaded method for int buffers (heap, direct or memory-mapped).
+     * The element at the buffer's position counts as index 0; nothing
+     * is copied onto the heap.
+     */
+    public static long sumEvenIndexes(IntBuffer buffer) {
+        if (buffer == null) {
+            System.out.println("❌ Error: Buffer is null!");
+            return 0;
+        }
+        return sumEvenIndexes(buffer, buffer.position() + 2);
+    }
+    
+    /**
+     * Overloaded method for long buffers
+     */
+    public static long sumEvenIndexes(LongBuffer buffer) {
+        if (buffer == null) {
+            System.out.println("❌ Error: Buffer is null!");
+            return 0;
+        }
+        return sumEvenIndexes(buffer, buffer.position() + 2);
+    }
+    
+    /**
+     * Overloaded method for double buffers
+     */
+    public static double sumEvenIndexes(DoubleBuffer buffer) {
+        if (buffer == null) {
+            System.out.println("❌ Error: Buffer is null!");
+            return 0;
+        }
+        return sumEvenIndexes(buffer, buffer.position() + 2);
+    }
+    
+    /**
+     * Method to sum the even indexes of a binary file of ints.
+     * The file is memory-mapped in windows of MAP_WINDOW_BYTES, so files
+     * larger than 2 GB work and the data is never copied onto the heap.
+     * Trailing bytes that do not form a whole element are ignored.
+     * 
+     * @param file  binary file of 4-byte ints
+     * @param order byte order the file was written in
+     * @return sum of elements at even indexes
+     */
+    public static long sumEvenIndexesOfIntFile(Path file, ByteOrder order) throws IOException {
+        ByteBuffer[] windows = mapWindows(file, Integer.BYTES, order);
+        long sum = 0;
+        for (int w = 0; w < windows.length; w++) {
+            sum += sumEvenIndexes(windows[w].asIntBuffer(), w == 0 ? 2 : 0);
+        }
+        return sum;
+    }
+    
+    /**
+     * Method to sum the even indexes of a binary file of longs
+     */
+    public static long sumEvenIndexesOfLongFile(Path file, ByteOrder order) throws IOException {
+        ByteBuffer[] windows = mapWindows(file, Long.BYTES, order);
+        long sum = 0;
+        for (int w = 0; w < windows.length; w++) {
+            sum += sumEvenIndexes(windows[w].asLongBuffer(), w == 0 ? 2 : 0);
+        }
+        return sum;
+    }
+    
+    /**
+     * Method to sum the even indexes of a binary file of doubles
+     */
+    public static double sumEvenIndexesOfDoubleFile(Path file, ByteOrder order) throws IOException {
+        ByteBuffer[] windows = mapWindows(file, Double.BYTES, order);
+        double sum = 0;
+        for (int w = 0; w < windows.length; w++) {
+            sum += sumEvenIndexes(windows[w].asDoubleBuffer(), w == 0 ? 2 : 0);
+        }
+        return sum;
+    }
+    
+    /**
+     * Method to compute even-index statistics directly on an int buffer
+     * 
+     * @param buffer the input buffer (at least 3 remaining elements)
+     * @return sum, count, min and max of the elements at even indexes
+     */
+    public static EvenIndexStats computeEvenIndexStats(IntBuffer buffer) {
+        return EvenIndexStats.of(buffer, buffer.position() + 2);
+    }
+    
+    /**
+     * Method to compute even-index statistics of a binary file of ints
+     * without loading it onto the heap
+     */
+    public static EvenIndexStats computeEvenIndexStatsOfIntFile(Path file, ByteOrder order) throws IOException {
+        ByteBuffer[] windows = mapWindows(file, Integer.BYTES, order);
+        EvenIndexStats stats = new EvenIndexStats(0, 0, Integer.MAX_VALUE, Integer.MIN_VALUE);
+        for (int w = 0; w < windows.length; w++) {
+            stats = stats.merge(EvenIndexStats.of(windows[w].asIntBuffer(), w == 0 ? 2 : 0));
+        }
+        return stats;
+    }
+    
+    /**
+     * Method to compute even-index statistics directly on a long buffer
+     */
+    public static LongEvenIndexStats computeEvenIndexStats(LongBuffer buffer) {
+        return LongEvenIndexStats.of(buffer, buffer.position() + 2);
+    }
+    
+    /**
+     * Method to compute even-index statistics directly on a double buffer
+     */
+    public static DoubleEvenIndexStats computeEvenIndexStats(DoubleBuffer buffer) {
+        return DoubleEvenIndexStats.of(buffer, buffer.position() + 2);
+    }
+    
+    /**
+     * Method to compute even-index statistics of a binary file of longs
+     */
+    public static LongEvenIndexStats computeEvenIndexStatsOfLongFile(Path file, ByteOrder order) throws IOException {
+        ByteBuffer[] windows = mapWindows(file, Long.BYTES, order);
+        LongEvenIndexStats stats = new LongEvenIndexStats(0, 0, Long.MAX_VALUE, Long.MIN_VALUE);
+        for (int w = 0; w < windows.length; w++) {
+            stats = stats.merge(LongEvenIndexStats.of(windows[w].asLongBuffer(), w == 0 ? 2 : 0));
+        }
+        return stats;
+    }
+    
+    /**
+     * Method to compute even-index statistics of a binary file of doubles
+     */
+    public static DoubleEvenIndexStats computeEvenIndexStatsOfDoubleFile(Path file, ByteOrder order) throws IOException {
+        ByteBuffer[] windows = mapWindows(file, Double.BYTES, order);
+        DoubleEvenIndexStats stats = new DoubleEvenIndexStats(0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+        for (int w = 0; w < windows.length; w++) {
+            stats = stats.merge(DoubleEvenIndexStats.of(windows[w].asDoubleBuffer(), w == 0 ? 2 : 0));
+        }
+        return stats;
+    }
+    
+    /**
+     * Helper method to memory-map a file as read-only windows.
+     * Every window holds an even number of elements, so local index
+     * parity matches the index in the whole file.
+     */
+    private static ByteBuffer[] mapWindows(Path file, int elementSize, ByteOrder order) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size() - channel.size() % elementSize;
+            int windowCount = (int) ((size + MAP_WINDOW_BYTES - 1) / MAP_WINDOW_BYTES);
+            ByteBuffer[] windows = new ByteBuffer[windowCount];
+            
+            for (int w = 0; w < windowCount; w++) {
+                long offset = w * MAP_WINDOW_BYTES;
+                long length = Math.min(MAP_WINDOW_BYTES, size - offset);
+                windows[w] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(order);
+            }
+            return windows;
+        }
+    }
+    
+    /**
+     * Helper method to sum every second element of a buffer from an absolute index
+     */
+    private static long sumEvenIndexes(IntBuffer buffer, int from) {
+        long sum = 0;
+        for (int i = from, end = buffer.limit(); i < end; i += 2) {
+            sum += buffer.get(i);
+        }
+        return sum;
+    }
+    
+    private static long sumEvenIndexes(LongBuffer buffer, int from) {
+        long sum = 0;
+        for (int i = from, end = buffer.limit(); i < end; i += 2) {
+            sum += buffer.get(i);
+        }
+        return sum;
+    }
+    
+    private static double sumEvenIndexes(DoubleBuffer buffer, int from) {
+        double sum = 0;
+        for (int i = from, end = buffer.limit(); i < end; i += 2) {
+            sum += buffer.get(i);
+        }
+        return sum;
+    }
+    
+    /**
+     * Helper method for the sequential cutoff heuristic
+     */
+    private static boolean useParallel(int length) {
+        return length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+    
+    /**
+     * Helper method to split [from, to) at an even index, so every
+     * chunk starts on the stride and no element is visited twice
+     */
+    private static int evenMidpoint(int from, int to) {
+        return (from + ((to - from) >>> 1)) & ~1;
+    }
+    
+    /**
+     * Partial result of an even-index scan: sum, count, min and max
+     */
+    public static final class EvenIndexStats {
+        public final long sum;
+        public final long count;
+        public final int min;
+        public final int max;
+        
+        EvenIndexStats(long sum, long count, int min, int max) {
+            this.sum = sum;
+            this.count = count;
+            this.min = min;
+            this.max = max;
+        }
+        
+        /**
+         * Scan the even indexes in [from, to); from must be even
+         */
+        static EvenIndexStats of(int[] arr, int from, int to) {
+            long sum = 0;
+            int count = 0;
+            int max = Integer.MIN_VALUE;
+            int min = Integer.MAX_VALUE;
+            
+            for (int i = from; i < to; i += 2) {
+                int value = arr[i];
+                sum += value;
+                count++;
+                if (value > max) max = value;
+                if (value < min) min = value;
+            }
+            return new EvenIndexStats(sum, count, min, max);
+        }
+        
+        /**
+         * Scan every second element of a buffer from an absolute index
+         */
+        static EvenIndexStats of(IntBuffer buffer, int from) {
+            long sum = 0;
+            long count = 0;
+            int max = Integer.MIN_VALUE;
+            int min = Integer.MAX_VALUE;
+            
+            for (int i = from, end = buffer.limit(); i < end; i += 2) {
+                int value = buffer.get(i);
+                sum += value;
+                count++;
+                if (value > max) max = value;
+                if (value < min) min = value;
+            }
+            return new EvenIndexStats(sum, count, min, max);
+        }
+        
+        /**
+         * Combine the statistics of two disjoint chunks
+         */
+        EvenIndexStats merge(EvenIndexStats other) {
+            return new EvenIndexStats(sum + other.sum, count + other.count,
+                Math.min(min, other.min), Math.max(max, other.max));
+        }
+    }
+    
+    /**
+     * EvenIndexStats for long data (the sum wraps on overflow, like sumEvenIndexes(long[]))
+     */
+    public static final class LongEvenIndexStats {
+        public final long sum;
+        public final long count;
+        public final long min;
+        public final long max;
+        
+        LongEvenIndexStats(long sum, long count, long min, long max) {
+            this.sum = sum;
+            this.count = count;
+            this.min = min;
+            this.max = max;
+        }
+        
+        /**
+         * Scan every second element of a buffer from an absolute index
+         */
+        static LongEvenIndexStats of(LongBuffer buffer, int from) {
+            long sum = 0;
+            long count = 0;
+            long max = Long.MIN_VALUE;
+            long min = Long.MAX_VALUE;
+            
+            for (int i = from, end = buffer.limit(); i < end; i += 2) {
+                long value = buffer.get(i);
+                sum += value;
+                count++;
+                if (value > max) max = value;
+                if (value < min) min = value;
+            }
+            return new LongEvenIndexStats(sum, count, min, max);
+        }
+        
+        LongEvenIndexStats merge(LongEvenIndexStats other) {
+            return new LongEvenIndexStats(sum + other.sum, count + other.count,
+                Math.min(min, other.min), Math.max(max, other.max));
+        }
+    }
+    
+    /**
+     * EvenIndexStats for double data (NaN elements are left out of min and max)
+     */
+    public static final class DoubleEvenIndexStats {
+        public final double sum;
+        public final long count;
+        public final double min;
+        public final double max;
+        
+        DoubleEvenIndexStats(double sum, long count, double min, double max) {
+            this.sum = sum;
+            this.count = count;
+            this.min = min;
+            this.max = max;
+        }
+        
+        /**
+         * Scan every second element of a buffer from an absolute index
+         */
+        static DoubleEvenIndexStats of(DoubleBuffer buffer, int from) {
+            double sum = 0;
+            long count = 0;
+            double max = Double.NEGATIVE_INFINITY;
+            double min = Double.POSITIVE_INFINITY;
+            
+            for (int i = from, end = buffer.limit(); i < end; i += 2) {
+                double value = buffer.get(i);
+                sum += value;
+                count++;
+                if (value > max) max = value;
+                if (value < min) min = value;
+            }
+            return new DoubleEvenIndexStats(sum, count, min, max);
+        }
+        
+        DoubleEvenIndexStats merge(DoubleEvenIndexStats other) {
+            return new DoubleEvenIndexStats(sum + other.sum, count + other.count,
+                other.min < min ? other.min : min, other.max > max ? other.max : max);
+        }
+    }
+    
+    /**
+     * Fork/join task computing EvenIndexStats over [from, to)
+     */
+    private static final class EvenIndexStatsTask extends RecursiveTask<EvenIndexStats> {
+        private static final long serialVersionUID = 1L;
+        
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        
+        EvenIndexStatsTask(int[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected EvenIndexStats compute() {
+            if (to - from <= PARALLEL_LEAF_SIZE) {
+                return EvenIndexStats.of(arr, from, to);
+            }
+            int mid = evenMidpoint(from, to);
+            EvenIndexStatsTask left = new EvenIndexStatsTask(arr, from, mid);
+            left.fork();
+            EvenIndexStats right = new EvenIndexStatsTask(arr, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+    
+    /**
+     * Fork/join task summing the even indexes of a long array over [from, to)
+     */
+    private static final class LongEvenIndexSumTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        
+        private final long[] arr;
+        private final int from;
+        private final int to;
+        
+        LongEvenIndexSumTask(long[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected Long compute() {
+            if (to - from <= PARALLEL_LEAF_SIZE) {
+                long sum = 0;
+                for (int i = from; i < to; i += 2) {
+                    sum += arr[i];
+                }
+                return sum;
+            }
+            int mid = evenMidpoint(from, to);
+            LongEvenIndexSumTask left = new LongEvenIndexSumTask(arr, from, mid);
+            left.fork();
+            long right = new LongEvenIndexSumTask(arr, mid, to).compute();
+            return left.join() + right;
+        }
+    }
+    
+    /**
+     * Fork/join task summing the even indexes of a double array over [from, to)
+     */
+    private static final class DoubleEvenIndexSumTask extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+        
+        private final double[] arr;
+        private final int from;
+        private final int to;
+        
+        DoubleEvenIndexSumTask(double[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected Double compute() {
+            if (to - from <= PARALLEL_LEAF_SIZE) {
+                double sum = 0;
+                for (int i = from; i < to; i += 2) {
+                    sum += arr[i];
+                }
+                return sum;
+            }
+            int mid = evenMidpoint(from, to);
+            DoubleEvenIndexSumTask left = new DoubleEvenIndexSumTask(arr, from, mid);
+            left.fork();
+            double right = new DoubleEvenIndexSumTask(arr, mid, to).compute();
+            return left.join() + right;
+        }
+    }
+    
+    /**
+     * (b) Method to search for a word in a text and count occurrences
+     * Case-insensitive search with word boundary detection
+     * 
+     * @param text the document/text to search in
+     * @param searchWord the word to search for
+     * @return count of how many times the word appears
+     */
+    public static int countWordOccurrences(String text, String searchWord) {
+        if (text == null || text.isEmpty() || searchWord == null || searchWord.isEmpty()) {
+            return 0;
+        }
+        
+        String targetWord = foldWord(searchWord);
+        if (targetWord == null) {
+            return 0;  // a word containing a delimiter can never match a token
+        }
+        
+        return countWordOccurrences(text, 0, text.length(), targetWord);
+    }
+    
+    /**
+     * Parallel version of countWordOccurrences for very large texts,
+     * using the common ForkJoinPool
+     */
+    public static int countWordOccurrencesParallel(String text, String searchWord) {
+        return countWordOccurrencesParallel(text, searchWord, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Parallel version of countWordOccurrences.
+     * The text is split into chunks at word delimiters, so every word
+     * lies entirely in one chunk and the total equals the sequential
+     * count exactly. Texts shorter than two chunks are scanned sequentially.
+     */
+    public static int countWordOccurrencesParallel(String text, String searchWord, ForkJoinPool pool) {
+        if (text == null || text.length() < 2 * PARALLEL_TEXT_CHUNK || pool.getParallelism() < 2) {
+            return countWordOccurrences(text, searchWord);
+        }
+        if (searchWord == null || searchWord.isEmpty()) {
+            return 0;
+        }
+        String targetWord = foldWord(searchWord);
+        if (targetWord == null) {
+            return 0;
+        }
+        return pool.invoke(new WordCountTask(text, 0, text.length(), targetWord));
+    }
+    
+    /**
+     * Helper method to count a folded word in text[from, to); the range
+     * must not start or end inside a word
+     */
+    private static int countWordOccurrences(CharSequence text, int from, int to, String targetWord) {
+        int count = 0;
+        int i = from;
+        
+        // Scan token by token, comparing in place - no per-word allocation
+        while ((i = nextWordStart(text, i, to)) < to) {
+            int end = wordEnd(text, i, to);
+            if (end - i == targetWord.length() && regionMatchesFolded(text, i, targetWord)) {
+                count++;
+            }
+            i = end;
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Method to get word frequency analysis of entire text
+     * Returns frequency of all words in the text, as a new map owned by
+     * the caller (safe to call from several threads at once)
+     */
+    public static Map<String, Integer> getWordFrequency(String text) {
+        if (text == null || text.isEmpty()) {
+            return new HashMap<>();
+        }
+        return WordFrequency.of(text).toMap();
+    }
+    
+    /**
+     * Parallel version of getWordFrequency for very large texts
+     * (same result as the sequential version)
+     */
+    public static Map<String, Integer> getWordFrequencyParallel(String text) {
+        if (text == null || text.isEmpty()) {
+            return new HashMap<>();
+        }
+        return WordFrequency.ofParallel(text).toMap();
+    }
+    
+    /**
+     * Helper method: true for the characters the original split pattern
+     * "\\s+|[.,!?;:\"-]+" treated as word separators, plus non-ASCII
+     * white space and punctuation (e.g. « » — ¿ 。 and the no-break space)
+     */
+    static boolean isWordDelimiter(char c) {
+        if (c < 128) {
+            return WORD_DELIMITERS[c];
+        }
+        return (UNICODE_DELIMITERS[c >>> 6] & (1L << c)) != 0;
+    }
+    
+    /**
+     * Helper method to case-fold the character at index i of the text.
+     * ASCII takes a branch-only fast path, other BMP characters a table
+     * lookup. The result never depends on the default locale (so "TITLE"
+     * still matches "title" under a Turkish locale), and characters with
+     * several case forms fold together (σ/ς/Σ, s/ſ, k/K-Kelvin sign).
+     * A surrogate pair is folded as one code point, so letters outside
+     * the BMP (e.g. Deseret, Adlam) match case-insensitively too.
+     */
+    static char foldCase(CharSequence text, int i) {
+        char c = text.charAt(i);
+        if (c < 128) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+        if (!Character.isSurrogate(c)) {
+            return CASE_FOLD[c];
+        }
+        if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+            return Character.highSurrogate(foldCodePoint(Character.toCodePoint(c, text.charAt(i + 1))));
+        }
+        if (Character.isLowSurrogate(c) && i > 0 && Character.isHighSurrogate(text.charAt(i - 1))) {
+            return Character.lowSurrogate(foldCodePoint(Character.toCodePoint(text.charAt(i - 1), c)));
+        }
+        return c;
+    }
+    
+    /**
+     * Helper method for simple case folding of one code point. Dotless ı
+     * keeps its own identity (Unicode gives it no simple folding).
+     */
+    private static int foldCodePoint(int codePoint) {
+        if (codePoint == '\u0131') {
+            return codePoint;
+        }
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+    
+    /**
+     * Helper method: true for the Unicode punctuation categories
+     */
+    private static boolean isPunctuation(int codePoint) {
+        switch (Character.getType(codePoint)) {
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Helper method to find the first word character at or after index i
+     * 
+     * @return start of the next word, or end if there is none
+     */
+    static int nextWordStart(CharSequence text, int i, int end) {
+        while (i < end && isWordDelimiter(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+    
+    /**
+     * Helper method to find the end (exclusive) of the word starting at index i
+     */
+    static int wordEnd(CharSequence text, int i, int end) {
+        while (i < end && !isWordDelimiter(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+    
+    /**
+     * Helper method to compare text[start...] with an already folded word
+     */
+    static boolean regionMatchesFolded(CharSequence text, int start, String foldedWord) {
+        for (int k = 0; k < foldedWord.length(); k++) {
+            if (foldCase(text, start + k) != foldedWord.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Helper method to fold a search word the same way the scanner folds text
+     * 
+     * @return the folded word, or null if it contains a word delimiter
+     */
+    static String foldWord(String word) {
+        char[] folded = new char[word.length()];
+        for (int k = 0; k < folded.length; k++) {
+            if (isWordDelimiter(word.charAt(k))) {
+                return null;
+            }
+            folded[k] = foldCase(word, k);
+        }
+        return new String(folded);
+    }
+    
+    /**
+     * Method to find most frequent words in text
+     */
+    public static void displayWordFrequency(String text) {
+        displayWordFrequency(text, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Method to display only the k most frequent words.
+     * Uses a bounded min-heap, so only k entries are ever ranked instead
+     * of boxing and sorting the whole vocabulary.
+     */
+    public static void displayWordFrequency(String text, int k) {
+        List<Map.Entry<String, Integer>> top = text == null || text.isEmpty()
+            ? List.of() : WordFrequency.of(text).topK(k);
+        
+        if (top.isEmpty()) {
+            System.out.println("No words found.");
+            return;
+        }
+        
+        System.out.println("\n📊 Word Frequency Analysis:");
+        System.out.println("-".repeat(50));
+        System.out.printf("%-20s | %s%n", "Word", "Count");
+        System.out.println("-".repeat(50));
+        
+        for (Map.Entry<String, Integer> entry : top) {
+            System.out.printf("%-20s | %d%n", entry.getKey(), entry.getValue());
+        }
+    }
+    
+    /**
+     * Method to display the k most frequent n-grams (phrases of n words),
+     * e.g. n = 2 for bigrams, n = 3 for trigrams
+     */
+    public static void displayNGramFrequency(String text, int n, int k) {
+        List<Map.Entry<String, Integer>> top = text == null || text.isEmpty() || n < 1
+            ? List.of() : NGramFrequency.of(text, n).topK(k);
+        
+        if (top.isEmpty()) {
+            System.out.println("No phrases found.");
+            return;
+        }
+        
+        System.out.printf("%n📊 %d-gram Frequency Analysis:%n", n);
+        System.out.println("-".repeat(50));
+        System.out.printf("%-35s | %s%n", "Phrase", "Count");
+        System.out.println("-".repeat(50));
+        
+        for (Map.Entry<String, Integer> entry : top) {
+            System.out.printf("%-35s | %d%n", entry.getKey(), entry.getValue());
+        }
+    }
+    
+    /**
+     * Method to count the occurrences of a phrase (a sequence of words),
+     * using the same case-insensitive word rules as countWordOccurrences.
+     * Delimiters between the words do not matter: "New York" also
+     * matches "new, york". Candidate windows are found by rolling hash
+     * and then verified word by word, so the count is exact.
+     */
+    public static int countPhraseOccurrences(String text, String phrase) {
+        if (text == null || text.isEmpty() || phrase == null) {
+            return 0;
+        }
+        
+        // Split the phrase into folded words
+        List<String> words = new ArrayList<>();
+        int length = phrase.length();
+        for (int i = 0; (i = nextWordStart(phrase, i, length)) < length; ) {
+            int end = wordEnd(phrase, i, length);
+            words.add(foldWord(phrase.substring(i, end)));
+            i = end;
+        }
+        int n = words.size();
+        if (n == 0) {
+            return 0;
+        }
+        
+        long target = 0;
+        for (String word : words) {
+            target = target * NGramFrequency.BASE + NGramFrequency.wordHash(word, 0, word.length());
+        }
+        
+        NGramWindow window = new NGramWindow(n);
+        int count = 0;
+        int textLength = text.length();
+        for (int i = 0; (i = nextWordStart(text, i, textLength)) < textLength; ) {
+            int end = wordEnd(text, i, textLength);
+            if (window.push(text, i, end) && window.hash == target && window.matches(text, words)) {
+                count++;
+            }
+            i = end;
+        }
+        return count;
+    }
+    
+    /**
+     * Alternative method: substring search (matches inside words too)
+     * Counts non-overlapping, case-insensitive occurrences
+     */
+    public static int countWordOccurrencesAlt(String text, String searchWord) {
+        if (text == null || text.isEmpty() || searchWord == null || searchWord.isEmpty()) {
+            return 0;
+        }
+        
+        return new SubstringSearcher(searchWord).count(text);
+    }
+    
+    /**
+     * Precompiled case-insensitive substring searcher (Boyer-Moore-Horspool).
+     * Build it once per search word and reuse it for every text: the text
+     * is never copied or lower-cased, characters are folded as they are
+     * compared, and on a mismatch the window skips ahead by up to the
+     * length of the pattern.
+     */
+    public static final class SubstringSearcher {
+        private final char[] pattern;
+        
+        // Skip distance by (folded char & 0xFF); chars sharing a bucket keep
+        // the smallest distance, which is always safe
+        private final int[] skip = new int[256];
+        
+        public SubstringSearcher(String searchWord) {
+            pattern = new char[searchWord.length()];
+            for (int k = 0; k < pattern.length; k++) {
+                pattern[k] = foldCase(searchWord, k);
+            }
+            
+            int m = pattern.length;
+            Arrays.fill(skip, m);
+            for (int k = 0; k < m - 1; k++) {
+                skip[pattern[k] & 0xFF] = m - 1 - k;
+            }
+        }
+        
+        /**
+         * Method to count non-overlapping occurrences in the text
+         */
+        public int count(CharSequence text) {
+            int m = pattern.length;
+            if (m == 0) {
+                return 0;
+            }
+            char lastChar = pattern[m - 1];
+            int count = 0;
+            
+            if (m == 1) {
+                // Nothing to skip: a plain branch-free scan is fastest
+                for (int i = 0, length = text.length(); i < length; i++) {
+                    count += foldCase(text, i) == lastChar ? 1 : 0;
+                }
+                return count;
+            }
+            
+            for (int i = 0, limit = text.length() - m; i <= limit; ) {
+                char c = foldCase(text, i + m - 1);
+                if (c == lastChar && matchesAt(text, i)) {
+                    count++;
+                    i += m;
+                } else {
+                    i += skip[c & 0xFF];
+                }
+            }
+            return count;
+        }
+        
+        /**
+         * Method to find the first occurrence at or after index from
+         * 
+         * @return start index of the match, or -1 if there is none
+         */
+        public int indexIn(CharSequence text, int from) {
+            int m = pattern.length;
+            if (m == 0) {
+                return from <= text.length() ? from : -1;
+            }
+            char lastChar = pattern[m - 1];
+            
+            for (int i = from, limit = text.length() - m; i <= limit; ) {
+                char c = foldCase(text, i + m - 1);
+                if (c == lastChar && matchesAt(text, i)) {
+                    return i;
+                }
+                i += skip[c & 0xFF];
+            }
+            return -1;
+        }
+        
+        private boolean matchesAt(CharSequence text, int start) {
+            for (int k = pattern.length - 2; k >= 0; k--) {
+                if (foldCase(text, start + k) != pattern[k]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+    
+    /**
+     * Method to count many search words in one pass over the text, with
+     * the same case-insensitive, whole-word rules as countWordOccurrences
+     * 
+     * @param text     the document/text to search in
+     * @param keywords the words to search for
+     * @return counts[i] = occurrences of keywords[i]
+     */
+    public static int[] countKeywordOccurrences(String text, String... keywords) {
+        if (text == null || text.isEmpty()) {
+            return new int[keywords.length];
+        }
+        return new KeywordMatcher(keywords).countAll(text);
+    }
+    
+    /**
+     * Multi-keyword matcher (Aho-Corasick goto automaton over folded chars).
+     * Build it once for a keyword set and reuse it for every document:
+     * countAll visits each character of the text once, whatever the
+     * number of keywords. Because a match must cover a whole word, the
+     * automaton restarts at the root on every word start and abandons a
+     * word as soon as it leaves the trie; the failure links of classic
+     * Aho-Corasick would only ever lead to matches starting inside a
+     * word, which these semantics reject, so they are not built.
+     */
+    public static final class KeywordMatcher {
+        private static final int ROOT = 0;
+        
+        private final String[] keywords;
+        private final int[] keywordState;   // keyword -> accepting state, or -1
+        private final boolean[] accepting;  // state -> ends a keyword
+        
+        // Transitions as an open-addressing table: (state << 16 | char) -> next state
+        private long[] edgeKeys;
+        private int[] edgeTargets;
+        private int edgeCount;
+        private int stateCount = 1;
+        
+        public KeywordMatcher(String... keywords) {
+            this.keywords = keywords.clone();
+            this.keywordState = new int[keywords.length];
+            edgeKeys = new long[64];
+            edgeTargets = new int[64];
+            Arrays.fill(edgeKeys, -1);
+            
+            for (int k = 0; k < keywords.length; k++) {
+                String folded = keywords[k] == null || keywords[k].isEmpty() ? null : foldWord(keywords[k]);
+                keywordState[k] = folded == null ? -1 : insert(folded);
+            }
+            
+            accepting = new boolean[stateCount];
+            for (int state : keywordState) {
+                if (state >= 0) accepting[state] = true;
+            }
+        }
+        
+        /**
+         * Method to count every keyword in one pass over the text
+         * 
+         * @return counts[i] = occurrences of the i-th keyword
+         */
+        public int[] countAll(CharSequence text) {
+            int[] hits = new int[stateCount];
+            int length = text.length();
+            int i = 0;
+            
+            while ((i = nextWordStart(text, i, length)) < length) {
+                int state = ROOT;
+                int k = i;
+                while (k < length) {
+                    if (isWordDelimiter(text.charAt(k))) {
+                        break;
+                    }
+                    state = next(state, foldCase(text, k));
+                    k++;
+                    if (state < 0) {
+                        k = wordEnd(text, k, length);  // no keyword fits; skip the rest of the word
+                        break;
+                    }
+                }
+                if (state >= 0 && accepting[state]) {
+                    hits[state]++;
+                }
+                i = k;
+            }
+            
+            int[] counts = new int[keywords.length];
+            for (int kw = 0; kw < keywords.length; kw++) {
+                counts[kw] = keywordState[kw] < 0 ? 0 : hits[keywordState[kw]];
+            }
+            return counts;
+        }
+        
+        /**
+         * Method to count every keyword and return the result by keyword
+         */
+        public Map<String, Integer> countAllAsMap(CharSequence text) {
+            int[] counts = countAll(text);
+            Map<String, Integer> result = new HashMap<>();
+            for (int k = 0; k < keywords.length; k++) {
+                result.put(keywords[k], counts[k]);
+            }
+            return result;
+        }
+        
+        private int insert(String foldedWord) {
+            int state = ROOT;
+            for (int k = 0; k < foldedWord.length(); k++) {
+                char c = foldedWord.charAt(k);
+                int target = next(state, c);
+                if (target < 0) {
+                    target = stateCount++;
+                    addEdge(state, c, target);
+                }
+                state = target;
+            }
+            return state;
+        }
+        
+        private int next(int state, char c) {
+            long key = ((long) state << 16) | c;
+            int mask = edgeKeys.length - 1;
+            for (int slot = edgeSlot(key, mask); edgeKeys[slot] != -1; slot = (slot + 1) & mask) {
+                if (edgeKeys[slot] == key) {
+                    return edgeTargets[slot];
+                }
+            }
+            return -1;
+        }
+        
+        private void addEdge(int state, char c, int target) {
+            if (++edgeCount * 2 > edgeKeys.length) {
+                long[] oldKeys = edgeKeys;
+                int[] oldTargets = edgeTargets;
+                edgeKeys = new long[oldKeys.length * 2];
+                edgeTargets = new int[edgeKeys.length];
+                Arrays.fill(edgeKeys, -1);
+                for (int slot = 0; slot < oldKeys.length; slot++) {
+                    if (oldKeys[slot] != -1) putEdge(oldKeys[slot], oldTargets[slot]);
+                }
+            }
+            putEdge(((long) state << 16) | c, target);
+        }
+        
+        private void putEdge(long key, int target) {
+            int mask = edgeKeys.length - 1;
+            int slot = edgeSlot(key, mask);
+            while (edgeKeys[slot] != -1) {
+                slot = (slot + 1) & mask;
+            }
+            edgeKeys[slot] = key;
+            edgeTargets[slot] = target;
+        }
+        
+        private static int edgeSlot(long key, int mask) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        }
+    }
+    
+    /**
+     * Inverted index for running many word searches against one document.
+     * The text is tokenized once (same rules as countWordOccurrences);
+     * afterwards a count is a single hash lookup and the positions of a
+     * word are returned in O(k) for k occurrences. Text can be appended
+     * later without re-indexing what is already there.
+     */
+    public static final class WordIndex {
+        private final Map<String, Postings> postings = new HashMap<>();
+        
+        // Folded trailing word, when the document does not end with a delimiter
+        private final StringBuilder openWord = new StringBuilder();
+        private int openWordStart;
+        private int documentLength;
+        private int totalWords;
+        
+        public WordIndex() {
+        }
+        
+        public WordIndex(CharSequence text) {
+            append(text);
+        }
+        
+        /**
+         * Method to index more text at the end of the document.
+         * A word cut off at the end of the previous text is joined with
+         * the start of the new text, exactly as if both were one string.
+         */
+        public void append(CharSequence text) {
+            int length = text.length();
+            int i = 0;
+            
+            if (openWord.length() > 0) {
+                int end = wordEnd(text, 0, length);
+                if (end > 0) {
+                    removePosting(openWord.toString());
+                    for (int k = 0; k < end; k++) {
+                        openWord.append(foldCase(text, k));
+                    }
+                    addPosting(openWord.toString(), openWordStart);
+                }
+                if (end < length) {
+                    openWord.setLength(0);
+                }
+                i = end;
+            }
+            
+            StringBuilder word = new StringBuilder();
+            while ((i = nextWordStart(text, i, length)) < length) {
+                int end = wordEnd(text, i, length);
+                word.setLength(0);
+                for (int k = i; k < end; k++) {
+                    word.append(foldCase(text, k));
+                }
+                addPosting(word.toString(), documentLength + i);
+                
+                if (end == length) {
+                    openWord.append(word);
+                    openWordStart = documentLength + i;
+                }
+                i = end;
+            }
+            
+            documentLength += length;
+        }
+        
+        /**
+         * Method to count occurrences of a word (case-insensitive), O(1)
+         */
+        public int count(String word) {
+            Postings list = lookup(word);
+            return list == null ? 0 : list.size;
+        }
+        
+        /**
+         * Method to get the character offsets where a word starts, in document order
+         */
+        public int[] positions(String word) {
+            Postings list = lookup(word);
+            return list == null ? new int[0] : Arrays.copyOf(list.offsets, list.size);
+        }
+        
+        public int vocabularySize() {
+            return postings.size();
+        }
+        
+        public int totalWords() {
+            return totalWords;
+        }
+        
+        public int documentLength() {
+            return documentLength;
+        }
+        
+        private Postings lookup(String word) {
+            if (word == null || word.isEmpty()) {
+                return null;
+            }
+            String folded = foldWord(word);
+            return folded == null ? null : postings.get(folded);
+        }
+        
+        private void addPosting(String foldedWord, int offset) {
+            postings.computeIfAbsent(foldedWord, k -> new Postings()).add(offset);
+            totalWords++;
+        }
+        
+        private void removePosting(String foldedWord) {
+            Postings list = postings.get(foldedWord);
+            list.size--;  // the open word is always the last posting of its list
+            if (list.size == 0) {
+                postings.remove(foldedWord);
+            }
+            totalWords--;
+        }
+    }
+    
+    /**
+     * Growable list of word offsets for one term
+     */
+    private static final class Postings {
+        int[] offsets = new int[4];
+        int size;
+        
+        void add(int offset) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            offsets[size++] = offset;
+        }
+    }
+    
+    /**
+     * Word frequency table for one document.
+     * Backed by an open-addressing hash table with parallel arrays of
+     * keys, hashes and primitive int counts: repeated words are counted
+     * by comparing the text in place, and a String is only created the
+     * first time a word is seen. Instances are not shared between
+     * callers, so no global state is involved.
+     */
+    public static final class WordFrequency {
+        private String[] keys = new String[64];
+        private int[] hashes = new int[64];
+        private int[] counts = new int[64];
+        private int size;
+        private long totalWords;
+        
+        /**
+         * Method to count every word of a text on the calling thread
+         */
+        public static WordFrequency of(CharSequence text) {
+            WordFrequency frequency = new WordFrequency();
+            frequency.addWords(text, 0, text.length());
+            return frequency;
+        }
+        
+        /**
+         * Method to count the words of a large text with the common ForkJoinPool
+         */
+        public static WordFrequency ofParallel(CharSequence text) {
+            return ofParallel(text, ForkJoinPool.commonPool());
+        }
+        
+        /**
+         * Method to count the words of a large text in parallel.
+         * The text is cut into chunks at word delimiters, every worker
+         * fills its own table and the tables are merged pairwise.
+         * Texts shorter than two chunks are counted sequentially.
+         */
+        public static WordFrequency ofParallel(CharSequence text, ForkJoinPool pool) {
+            if (text.length() < 2 * PARALLEL_TEXT_CHUNK || pool.getParallelism() < 2) {
+                return of(text);
+            }
+            return pool.invoke(new WordFrequencyTask(text, 0, text.length()));
+        }
+        
+        /**
+         * Method to count the words of a UTF-8 file too large to load as a String
+         */
+        public static WordFrequency of(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return of(channel);
+            }
+        }
+        
+        /**
+         * Method to count the words of a UTF-8 byte stream.
+         * Memory use is bounded by the vocabulary, not by the size of the input.
+         */
+        public static WordFrequency of(ReadableByteChannel channel) throws IOException {
+            WordFrequency frequency = new WordFrequency();
+            streamWords(channel, frequency::addWords);
+            return frequency;
+        }
+        
+        /**
+         * Method to get the count of one word (case-insensitive)
+         */
+        public int count(String word) {
+            if (word == null || word.isEmpty()) {
+                return 0;
+            }
+            String folded = foldWord(word);
+            if (folded == null) {
+                return 0;
+            }
+            int hash = hash(folded, 0, folded.length());
+            int mask = keys.length - 1;
+            for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && keys[slot].equals(folded)) {
+                    return counts[slot];
+                }
+            }
+            return 0;
+        }
+        
+        public int distinctWords() {
+            return size;
+        }
+        
+        public long totalWords() {
+            return totalWords;
+        }
+        
+        /**
+         * Method to get the k most frequent words, most frequent first
+         * (ties in alphabetical order). Runs in O(n log k) with a bounded
+         * min-heap of table slots; only the k results are boxed.
+         */
+        public List<Map.Entry<String, Integer>> topK(int k) {
+            int[] heap = new int[Math.max(0, Math.min(k, size))];
+            int heapSize = 0;
+            
+            for (int slot = 0; slot < keys.length && heap.length > 0; slot++) {
+                if (keys[slot] == null) {
+                    continue;
+                }
+                if (heapSize < heap.length) {
+                    heap[heapSize] = slot;
+                    siftUp(heap, heapSize++);
+                } else if (ranksAbove(slot, heap[0])) {
+                    heap[0] = slot;
+                    siftDown(heap, 0, heapSize);
+                }
+            }
+            
+            // Pop the minimum repeatedly, filling the result from the back
+            Map.Entry<String, Integer>[] result = newEntryArray(heapSize);
+            while (heapSize > 0) {
+                int slot = heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(heap, 0, heapSize);
+                result[heapSize] = Map.entry(keys[slot], counts[slot]);
+            }
+            return Arrays.asList(result);
+        }
+        
+        private boolean ranksAbove(int slotA, int slotB) {
+            if (counts[slotA] != counts[slotB]) {
+                return counts[slotA] > counts[slotB];
+            }
+            return keys[slotA].compareTo(keys[slotB]) < 0;
+        }
+        
+        private void siftUp(int[] heap, int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!ranksAbove(heap[parent], heap[i])) {
+                    break;
+                }
+                swap(heap, i, parent);
+                i = parent;
+            }
+        }
+        
+        private void siftDown(int[] heap, int i, int heapSize) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < heapSize && ranksAbove(heap[smallest], heap[left])) smallest = left;
+                if (right < heapSize && ranksAbove(heap[smallest], heap[right])) smallest = right;
+                if (smallest == i) {
+                    return;
+                }
+                swap(heap, i, smallest);
+                i = smallest;
+            }
+        }
+        
+        /**
+         * Method to visit every (word, count) pair without boxing
+         */
+        public void forEach(ObjIntConsumer<String> action) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != null) {
+                    action.accept(keys[slot], counts[slot]);
+                }
+            }
+        }
+        
+        /**
+         * Method to copy the table into a regular map
+         */
+        public Map<String, Integer> toMap() {
+            Map<String, Integer> map = new HashMap<>(size * 2);
+            forEach(map::put);
+            return map;
+        }
+        
+        /**
+         * Method to add the counts of another table into this one
+         */
+        public void merge(WordFrequency other) {
+            for (int slot = 0; slot < other.keys.length; slot++) {
+                if (other.keys[slot] != null) {
+                    add(other.keys[slot], other.hashes[slot], other.counts[slot]);
+                }
+            }
+            totalWords += other.totalWords;
+        }
+        
+        /**
+         * Count every word of text[from, to); the range must not start or
+         * end inside a word
+         */
+        void addWords(CharSequence text, int from, int to) {
+            int i = from;
+            while ((i = nextWordStart(text, i, to)) < to) {
+                int end = wordEnd(text, i, to);
+                addWord(text, i, end);
+                i = end;
+            }
+        }
+        
+        private void addWord(CharSequence text, int start, int end) {
+            int hash = hash(text, start, end);
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            
+            for (String key; (key = keys[slot]) != null; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && key.length() == end - start
+                        && regionMatchesFolded(text, start, key)) {
+                    counts[slot]++;
+                    totalWords++;
+                    return;
+                }
+            }
+            
+            char[] folded = new char[end - start];
+            for (int k = 0; k < folded.length; k++) {
+                folded[k] = foldCase(text, start + k);
+            }
+            insert(slot, new String(folded), hash, 1);
+            totalWords++;
+        }
+        
+        private void add(String foldedKey, int hash, int count) {
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            
+            for (String key; (key = keys[slot]) != null; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && key.equals(foldedKey)) {
+                    counts[slot] += count;
+                    return;
+                }
+            }
+            insert(slot, foldedKey, hash, count);
+        }
+        
+        private void insert(int slot, String key, int hash, int count) {
+            keys[slot] = key;
+            hashes[slot] = hash;
+            counts[slot] = count;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+        }
+        
+        private void resize() {
+            String[] oldKeys = keys;
+            int[] oldHashes = hashes;
+            int[] oldCounts = counts;
+            keys = new String[oldKeys.length * 2];
+            hashes = new int[keys.length];
+            counts = new int[keys.length];
+            int mask = keys.length - 1;
+            
+            for (int old = 0; old < oldKeys.length; old++) {
+                if (oldKeys[old] != null) {
+                    int slot = oldHashes[old] & mask;
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[old];
+                    hashes[slot] = oldHashes[old];
+                    counts[slot] = oldCounts[old];
+                }
+            }
+        }
+        
+        /**
+         * Hash of the folded characters of text[start, end)
+         */
+        static int hash(CharSequence text, int start, int end) {
+            int h = 0;
+            for (int k = start; k < end; k++) {
+                h = 31 * h + foldCase(text, k);
+            }
+            return h ^ (h >>> 16);
+        }
+    }
+    
+    /**
+     * Frequency table of n-grams (runs of n consecutive words).
+     * Each word is hashed to 64 bits as it is scanned and the n-gram hash
+     * is rolled along the word sequence, so no phrase String is built
+     * while counting: the table maps the 64-bit n-gram hash to a
+     * primitive count plus the text span of its first occurrence, which
+     * is only turned into a String when a result is displayed. Distinct
+     * phrases colliding on all 64 bits are counted together; for any
+     * realistic vocabulary that probability is negligible.
+     */
+    public static final class NGramFrequency {
+        static final long BASE = 0x9E3779B97F4A7C15L;
+        
+        private final CharSequence text;
+        private final int n;
+        private long[] keys = new long[64];
+        private int[] counts = new int[64];   // 0 = empty slot
+        private int[] firstStart = new int[64];
+        private int[] firstEnd = new int[64];
+        private int size;
+        private long totalNGrams;
+        
+        private NGramFrequency(CharSequence text, int n) {
+            this.text = text;
+            this.n = n;
+        }
+        
+        /**
+         * Method to count every n-gram of a text (n = 1 counts single words)
+         */
+        public static NGramFrequency of(CharSequence text, int n) {
+            if (n < 1) {
+                throw new IllegalArgumentException("n must be at least 1");
+            }
+            NGramFrequency frequency = new NGramFrequency(text, n);
+            NGramWindow window = new NGramWindow(n);
+            int length = text.length();
+            
+            for (int i = 0; (i = nextWordStart(text, i, length)) < length; ) {
+                int end = wordEnd(text, i, length);
+                if (window.push(text, i, end)) {
+                    frequency.add(window.hash, window.firstStart(), end);
+                }
+                i = end;
+            }
+            return frequency;
+        }
+        
+        /**
+         * Method to get the count of a phrase of n words (case-insensitive)
+         */
+        public int count(String phrase) {
+            NGramWindow window = new NGramWindow(n);
+            int length = phrase.length();
+            int words = 0;
+            for (int i = 0; (i = nextWordStart(phrase, i, length)) < length; words++) {
+                int end = wordEnd(phrase, i, length);
+                window.push(phrase, i, end);
+                i = end;
+            }
+            if (words != n) {
+                return 0;
+            }
+            int slot = find(window.hash);
+            return slot < 0 ? 0 : counts[slot];
+        }
+        
+        /**
+         * Method to get the k most frequent n-grams, most frequent first
+         * (ties by first appearance); only these k phrases become Strings
+         */
+        public List<Map.Entry<String, Integer>> topK(int k) {
+            int[] heap = new int[Math.max(0, Math.min(k, size))];
+            int heapSize = 0;
+            
+            for (int slot = 0; slot < keys.length && heap.length > 0; slot++) {
+                if (counts[slot] == 0) {
+                    continue;
+                }
+                if (heapSize < heap.length) {
+                    heap[heapSize] = slot;
+                    siftUp(heap, heapSize++);
+                } else if (ranksAbove(slot, heap[0])) {
+                    heap[0] = slot;
+                    siftDown(heap, 0, heapSize);
+                }
+            }
+            
+            Map.Entry<String, Integer>[] result = newEntryArray(heapSize);
+            while (heapSize > 0) {
+                int slot = heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(heap, 0, heapSize);
+                result[heapSize] = Map.entry(phraseAt(slot), counts[slot]);
+            }
+            return Arrays.asList(result);
+        }
+        
+        public int distinctNGrams() {
+            return size;
+        }
+        
+        public long totalNGrams() {
+            return totalNGrams;
+        }
+        
+        /**
+         * Render the first occurrence of a slot as folded words joined by spaces
+         */
+        private String phraseAt(int slot) {
+            StringBuilder phrase = new StringBuilder();
+            int end = firstEnd[slot];
+            for (int i = firstStart[slot]; (i = nextWordStart(text, i, end)) < end; ) {
+                int wordEnd = wordEnd(text, i, end);
+                if (phrase.length() > 0) phrase.append(' ');
+                for (int k = i; k < wordEnd; k++) {
+                    phrase.append(foldCase(text, k));
+                }
+                i = wordEnd;
+            }
+            return phrase.toString();
+        }
+        
+        private void add(long hash, int start, int end) {
+            totalNGrams++;
+            int mask = keys.length - 1;
+            int slot = slotOf(hash, mask);
+            while (counts[slot] != 0) {
+                if (keys[slot] == hash) {
+                    counts[slot]++;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = hash;
+            counts[slot] = 1;
+            firstStart[slot] = start;
+            firstEnd[slot] = end;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+        }
+        
+        private int find(long hash) {
+            int mask = keys.length - 1;
+            for (int slot = slotOf(hash, mask); counts[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == hash) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+        
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldCounts = counts;
+            int[] oldStart = firstStart;
+            int[] oldEnd = firstEnd;
+            keys = new long[oldKeys.length * 2];
+            counts = new int[keys.length];
+            firstStart = new int[keys.length];
+            firstEnd = new int[keys.length];
+            int mask = keys.length - 1;
+            
+            for (int old = 0; old < oldKeys.length; old++) {
+                if (oldCounts[old] != 0) {
+                    int slot = slotOf(oldKeys[old], mask);
+                    while (counts[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[old];
+                    counts[slot] = oldCounts[old];
+                    firstStart[slot] = oldStart[old];
+                    firstEnd[slot] = oldEnd[old];
+                }
+            }
+        }
+        
+        private boolean ranksAbove(int slotA, int slotB) {
+            if (counts[slotA] != counts[slotB]) {
+                return counts[slotA] > counts[slotB];
+            }
+            return firstStart[slotA] < firstStart[slotB];
+        }
+        
+        private void siftUp(int[] heap, int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!ranksAbove(heap[parent], heap[i])) {
+                    break;
+                }
+                swap(heap, i, parent);
+                i = parent;
+            }
+        }
+        
+        private void siftDown(int[] heap, int i, int heapSize) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < heapSize && ranksAbove(heap[smallest], heap[left])) smallest = left;
+                if (right < heapSize && ranksAbove(heap[smallest], heap[right])) smallest = right;
+                if (smallest == i) {
+                    return;
+                }
+                swap(heap, i, smallest);
+                i = smallest;
+            }
+        }
+        
+        private static int slotOf(long hash, int mask) {
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+        
+        /**
+         * 64-bit hash of the folded characters of text[start, end)
+         * (FNV-1a followed by a final avalanche step)
+         */
+        static long wordHash(CharSequence text, int start, int end) {
+            long h = 0xCBF29CE484222325L;
+            for (int k = start; k < end; k++) {
+                h = (h ^ foldCase(text, k)) * 0x100000001B3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            return h ^ (h >>> 33);
+        }
     }
     
     /**
-     * Overloaded method for long arrays
+     * Sliding window over the last n words of a text, keeping the rolling
+     * polynomial hash sum(wordHash[i] * BASE^(n-1-i)) of the window
      */
-    public static long sumEvenIndexes(long[] arr) {
-        if (arr == null) {
-            System.out.println("❌ Error: Array is null!");
-            return 0;
+    private static final class NGramWindow {
+        private final int n;
+        private final long[] hashes;
+        private final int[] starts;
+        private final int[] ends;
+        private final long topPower;  // BASE^(n-1), to drop the oldest word
+        private int filled;
+        private int oldest;
+        long hash;
+        
+        NGramWindow(int n) {
+            this.n = n;
+            hashes = new long[n];
+            starts = new int[n];
+            ends = new int[n];
+            long power = 1;
+            for (int k = 1; k < n; k++) {
+                power *= NGramFrequency.BASE;
+            }
+            topPower = power;
         }
         
-        long sum = 0;
-        for (int i = 2; i < arr.length; i += 2) {
-            sum += arr[i];
+        /**
+         * Slide the window onto the word text[start, end)
+         * 
+         * @return true once the window holds n words
+         */
+        boolean push(CharSequence text, int start, int end) {
+            long wordHash = NGramFrequency.wordHash(text, start, end);
+            if (filled == n) {
+                hash -= hashes[oldest] * topPower;
+            } else {
+                filled++;
+            }
+            hash = hash * NGramFrequency.BASE + wordHash;
+            hashes[oldest] = wordHash;
+            starts[oldest] = start;
+            ends[oldest] = end;
+            oldest = (oldest + 1) % n;
+            return filled == n;
+        }
+        
+        /**
+         * Start of the first word in a full window
+         */
+        int firstStart() {
+            return starts[oldest];
+        }
+        
+        /**
+         * Compare the window word by word with already folded words
+         */
+        boolean matches(CharSequence text, List<String> foldedWords) {
+            for (int k = 0; k < n; k++) {
+                int slot = (oldest + k) % n;
+                String word = foldedWords.get(k);
+                if (ends[slot] - starts[slot] != word.length() || !regionMatchesFolded(text, starts[slot], word)) {
+                    return false;
+                }
+            }
+            return true;
         }
-        return sum;
     }
     
     /**
-     * Method to get statistics about array elements at even indexes
+     * Approximate top-K word counter for streams with huge vocabularies
+     * (Space-Saving algorithm, Metwally et al.). It keeps a fixed number
+     * of counters; when a new word arrives and all counters are taken,
+     * the word with the smallest count is evicted and the newcomer
+     * inherits that count as its possible overestimation. Every word
+     * that occurs more than totalWords / capacity times is guaranteed to
+     * be tracked, and each estimate is at most totalWords / capacity
+     * above the true count.
      */
-    public static void displayEvenIndexStats(int[] arr) {
-        if (arr == null || arr.length < 3) {
-            System.out.println("❌ Array must have at least 3 elements!");
-            return;
+    public static final class HeavyHitters {
+        // Largest capacity whose index table (4 slots per counter, rounded
+        // down to a power of two) still fits in an int[]
+        public static final int MAX_CAPACITY = 1 << 28;
+        
+        private final String[] words;
+        private final int[] hashes;
+        private final long[] counts;
+        private final long[] errors;
+        
+        // Min-heap of counter ids ordered by count, and each counter's heap position
+        private final int[] heap;
+        private final int[] heapPosition;
+        
+        // Open-addressing index from word to counter id + 1 (0 = empty slot)
+        private final int[] table;
+        
+        private int used;
+        private long totalWords;
+        
+        /**
+         * @param capacity number of counters (memory is O(capacity)), at most MAX_CAPACITY
+         */
+        public HeavyHitters(int capacity) {
+            if (capacity < 1 || capacity > MAX_CAPACITY) {
+                throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+            }
+            words = new String[capacity];
+            hashes = new int[capacity];
+            counts = new long[capacity];
+            errors = new long[capacity];
+            heap = new int[capacity];
+            heapPosition = new int[capacity];
+            table = new int[Integer.highestOneBit(capacity) * 4];
         }
         
-        long sum = 0;
-        int count = 0;
-        int max = Integer.MIN_VALUE;
-        int min = Integer.MAX_VALUE;
+        /**
+         * Method to size the counter set for a maximum relative error:
+         * estimates are then within epsilon * totalWords of the true count
+         * 
+         * @param epsilon in (0, 1], and at least 1 / MAX_CAPACITY
+         */
+        public static HeavyHitters withError(double epsilon) {
+            if (!(epsilon > 0 && epsilon <= 1)) {
+                throw new IllegalArgumentException("epsilon must be in (0, 1]: " + epsilon);
+            }
+            double capacity = Math.ceil(1.0 / epsilon);
+            if (capacity > MAX_CAPACITY) {
+                throw new IllegalArgumentException("epsilon must be at least 1 / " + MAX_CAPACITY + ": " + epsilon);
+            }
+            return new HeavyHitters((int) capacity);
+        }
         
-        for (int i = 2; i < arr.length; i += 2) {
-            sum += arr[i];
-            count++;
-            if (arr[i] > max) max = arr[i];
-            if (arr[i] < min) min = arr[i];
+        /**
+         * Method to track the heavy hitters of a UTF-8 byte stream
+         */
+        public static HeavyHitters of(ReadableByteChannel channel, int capacity) throws IOException {
+            HeavyHitters hitters = new HeavyHitters(capacity);
+            streamWords(channel, hitters::addWords);
+            return hitters;
         }
         
-        double average = (double) sum / count;
+        /**
+         * Method to add every word of a text to the summary
+         */
+        public void addText(CharSequence text) {
+            addWords(text, 0, text.length());
+        }
         
-        System.out.println("\n📊 Statistics for Even Indexes (2, 4, 6...):");
-        System.out.println("-".repeat(50));
-        System.out.printf("Sum:\t\t%d%n", sum);
-        System.out.printf("Count:\t\t%d%n", count);
-        System.out.printf("Average:\t%.2f%n", average);
-        System.out.printf("Maximum:\t%d%n", max);
-        System.out.printf("Minimum:\t%d%n", min);
-    }
-    
-    /**
-     * (b) Method to search for a word in a text and count occurrences
-     * Case-insensitive search with word boundary detection
-     * 
-     * @param text the document/text to search in
-     * @param searchWord the word to search for
-     * @return count of how many times the word appears
-     */
-    public static int countWordOccurrences(String text, String searchWord) {
-        if (text == null || text.isEmpty() || searchWord == null || searchWord.isEmpty()) {
-            return 0;
+        /**
+         * Method to get the (at most) k words with the highest estimated
+         * counts, highest first
+         */
+        public List<Map.Entry<String, Long>> topK(int k) {
+            Integer[] ids = new Integer[used];
+            for (int id = 0; id < used; id++) {
+                ids[id] = id;
+            }
+            Arrays.sort(ids, (x, y) -> counts[x] != counts[y]
+                ? Long.compare(counts[y], counts[x]) : words[x].compareTo(words[y]));
+            
+            List<Map.Entry<String, Long>> result = new ArrayList<>();
+            for (int r = 0; r < Math.min(k, used); r++) {
+                result.add(Map.entry(words[ids[r]], counts[ids[r]]));
+            }
+            return result;
         }
         
-        int count = 0;
-        String[] words = text.toLowerCase().split("\\s+|[.,!?;:\"-]+");
-        String targetWord = searchWord.toLowerCase();
+        /**
+         * Method to get the estimated count of a word (0 if not tracked)
+         */
+        public long estimate(String word) {
+            int id = find(word);
+            return id < 0 ? 0 : counts[id];
+        }
         
-        for (String word : words) {
-            if (word.equals(targetWord)) {
-                count++;
+        /**
+         * Method to get how much the estimate of a word may exceed its true count
+         */
+        public long errorBound(String word) {
+            int id = find(word);
+            return id < 0 ? maxError() : errors[id];
+        }
+        
+        /**
+         * Worst-case overestimation of any count: totalWords / capacity
+         */
+        public long maxError() {
+            return totalWords / words.length;
+        }
+        
+        public long totalWords() {
+            return totalWords;
+        }
+        
+        void addWords(CharSequence text, int from, int to) {
+            int i = from;
+            while ((i = nextWordStart(text, i, to)) < to) {
+                int end = wordEnd(text, i, to);
+                addWord(text, i, end);
+                i = end;
             }
         }
         
-        return count;
-    }
-    
-    /**
-     * Method to get word frequency analysis of entire text
-     * Returns frequency of all words in the text
-     */
-    public static Map<String, Integer> getWordFrequency(String text) {
-        wordFrequencyCache.clear();
+        private void addWord(CharSequence text, int start, int end) {
+            totalWords++;
+            int hash = WordFrequency.hash(text, start, end);
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            
+            for (int entry; (entry = table[slot]) != 0; slot = (slot + 1) & mask) {
+                int id = entry - 1;
+                if (hashes[id] == hash && words[id].length() == end - start
+                        && regionMatchesFolded(text, start, words[id])) {
+                    counts[id]++;
+                    siftDown(heapPosition[id]);
+                    return;
+                }
+            }
+            
+            char[] folded = new char[end - start];
+            for (int k = 0; k < folded.length; k++) {
+                folded[k] = foldCase(text, start + k);
+            }
+            
+            int id;
+            if (used < words.length) {
+                id = used;
+                heap[used] = id;
+                heapPosition[id] = used++;
+            } else {
+                // Evict the smallest counter; the newcomer inherits its count as error
+                id = heap[0];
+                removeFromTable(id);
+                slot = findFreeSlot(hash);
+            }
+            words[id] = new String(folded);
+            hashes[id] = hash;
+            errors[id] = counts[id];
+            counts[id]++;
+            table[slot] = id + 1;
+            siftUp(heapPosition[id]);
+            siftDown(heapPosition[id]);
+        }
         
-        if (text == null || text.isEmpty()) {
-            return wordFrequencyCache;
+        private int find(String word) {
+            String folded = word == null || word.isEmpty() ? null : foldWord(word);
+            if (folded == null) {
+                return -1;
+            }
+            int hash = WordFrequency.hash(folded, 0, folded.length());
+            int mask = table.length - 1;
+            for (int slot = hash & mask, entry; (entry = table[slot]) != 0; slot = (slot + 1) & mask) {
+                if (hashes[entry - 1] == hash && words[entry - 1].equals(folded)) {
+                    return entry - 1;
+                }
+            }
+            return -1;
         }
         
-        String[] words = text.toLowerCase().split("\\s+|[.,!?;:\"-]+");
+        private int findFreeSlot(int hash) {
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
         
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                wordFrequencyCache.put(word, wordFrequencyCache.getOrDefault(word, 0) + 1);
+        /**
+         * Delete a counter from the linear-probing index, shifting later
+         * entries of the same probe run back so lookups still find them
+         */
+        private void removeFromTable(int id) {
+            int mask = table.length - 1;
+            int slot = hashes[id] & mask;
+            while (table[slot] != id + 1) {
+                slot = (slot + 1) & mask;
+            }
+            
+            int next = slot;
+            while (true) {
+                table[slot] = 0;
+                int home;
+                do {
+                    next = (next + 1) & mask;
+                    if (table[next] == 0) {
+                        return;
+                    }
+                    home = hashes[table[next] - 1] & mask;
+                } while (slot <= next ? (slot < home && home <= next) : (slot < home || home <= next));
+                table[slot] = table[next];
+                slot = next;
+            }
+        }
+        
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (counts[heap[parent]] <= counts[heap[i]]) {
+                    return;
+                }
+                swapHeap(i, parent);
+                i = parent;
+            }
+        }
+        
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < used && counts[heap[left]] < counts[heap[smallest]]) smallest = left;
+                if (right < used && counts[heap[right]] < counts[heap[smallest]]) smallest = right;
+                if (smallest == i) {
+                    return;
+                }
+                swapHeap(i, smallest);
+                i = smallest;
             }
         }
         
-        return wordFrequencyCache;
+        private void swapHeap(int i, int j) {
+            swap(heap, i, j);
+            heapPosition[heap[i]] = i;
+            heapPosition[heap[j]] = j;
+        }
     }
     
     /**
-     * Method to find most frequent words in text
+     * Receiver for the complete words of a text range, used by the
+     * streaming readers
      */
-    public static void displayWordFrequency(String text) {
-        Map<String, Integer> frequency = getWordFrequency(text);
+    @FunctionalInterface
+    interface WordSink {
+        void addWords(CharSequence text, int from, int to);
+    }
+    
+    /**
+     * Helper method to feed a UTF-8 byte stream to a word sink.
+     * The input is read and decoded in fixed-size buffers; a word cut
+     * off at the end of a buffer is carried over to the next one, as is
+     * a multi-byte character split between two reads. Malformed bytes
+     * are decoded as U+FFFD.
+     */
+    static void streamWords(ReadableByteChannel channel, WordSink sink) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer bytes = ByteBuffer.allocate(STREAM_BYTE_BUFFER);
+        CharBuffer chars = CharBuffer.allocate(STREAM_CHAR_BUFFER);
+        boolean done = false;
         
-        if (frequency.isEmpty()) {
-            System.out.println("No words found.");
-            return;
+        while (!done) {
+            boolean endOfInput = channel.read(bytes) < 0;
+            bytes.flip();
+            boolean allDecoded = decoder.decode(bytes, chars, endOfInput).isUnderflow();
+            bytes.compact();
+            
+            // At end of input, keep looping until the decoder has drained every byte
+            done = endOfInput && allDecoded;
+            if (done) {
+                decoder.flush(chars);
+            }
+            
+            // Pass on every complete word; keep a trailing partial word for the next round
+            chars.flip();
+            int length = chars.remaining();
+            int last = done ? length : lastWordBoundary(chars, length);
+            sink.addWords(chars, 0, last);
+            chars.position(last);
+            chars.compact();
+            
+            if (!chars.hasRemaining()) {
+                // A single word longer than the buffer: make room for the rest of it
+                CharBuffer larger = CharBuffer.allocate(chars.capacity() * 2);
+                chars.flip();
+                larger.put(chars);
+                chars = larger;
+            }
+        }
+    }
+    
+    /**
+     * Helper method: typed Map.Entry array for the top-K results (generic
+     * arrays cannot be created directly, so a wildcard array is cast)
+     */
+    @SuppressWarnings("unchecked")
+    private static Map.Entry<String, Integer>[] newEntryArray(int length) {
+        return (Map.Entry<String, Integer>[]) new Map.Entry<?, ?>[length];
+    }
+    
+    private static void swap(int[] arr, int i, int j) {
+        int tmp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = tmp;
+    }
+    
+    /**
+     * Helper method to find the end of the last complete word in text[0, end)
+     * 
+     * @return index just past the last delimiter, or 0 if there is none
+     */
+    private static int lastWordBoundary(CharSequence text, int end) {
+        int i = end;
+        while (i > 0 && !isWordDelimiter(text.charAt(i - 1))) {
+            i--;
         }
+        return i;
+    }
+    
+    /**
+     * Fork/join task counting words in text[from, to) into a private table
+     */
+    private static final class WordFrequencyTask extends RecursiveTask<WordFrequency> {
+        private static final long serialVersionUID = 1L;
         
-        System.out.println("\n📊 Word Frequency Analysis:");
-        System.out.println("-".repeat(50));
-        System.out.printf("%-20s | %s%n", "Word", "Count");
-        System.out.println("-".repeat(50));
+        private final CharSequence text;
+        private final int from;
+        private final int to;
         
-        frequency.entrySet().stream()
-            .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-            .forEach(entry -> System.out.printf("%-20s | %d%n", entry.getKey(), entry.getValue()));
+        WordFrequencyTask(CharSequence text, int from, int to) {
+            this.text = text;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected WordFrequency compute() {
+            int mid = textSplitPoint(text, from, to);
+            if (mid >= to) {
+                WordFrequency frequency = new WordFrequency();
+                frequency.addWords(text, from, to);
+                return frequency;
+            }
+            WordFrequencyTask left = new WordFrequencyTask(text, from, mid);
+            left.fork();
+            WordFrequency right = new WordFrequencyTask(text, mid, to).compute();
+            WordFrequency leftResult = left.join();
+            
+            // Merge the smaller table into the larger one
+            if (leftResult.distinctWords() >= right.distinctWords()) {
+                leftResult.merge(right);
+                return leftResult;
+            }
+            right.merge(leftResult);
+            return right;
+        }
     }
     
     /**
-     * Alternative method using indexOf for word search
+     * Fork/join task counting one folded word in text[from, to)
      */
-    public static int countWordOccurrencesAlt(String text, String searchWord) {
-        if (text == null || text.isEmpty() || searchWord == null || searchWord.isEmpty()) {
-            return 0;
-        }
+    private static final class WordCountTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
         
-        int count = 0;
-        int index = 0;
-        String lowerText = text.toLowerCase();
-        String lowerWord = searchWord.toLowerCase();
+        private final CharSequence text;
+        private final int from;
+        private final int to;
+        private final String targetWord;
         
-        while ((index = lowerText.indexOf(lowerWord, index)) != -1) {
-            count++;
-            index += lowerWord.length();
+        WordCountTask(CharSequence text, int from, int to, String targetWord) {
+            this.text = text;
+            this.from = from;
+            this.to = to;
+            this.targetWord = targetWord;
         }
         
-        return count;
+        @Override
+        protected Integer compute() {
+            int mid = textSplitPoint(text, from, to);
+            if (mid >= to) {
+                return countWordOccurrences(text, from, to, targetWord);
+            }
+            WordCountTask left = new WordCountTask(text, from, mid, targetWord);
+            left.fork();
+            int right = new WordCountTask(text, mid, to, targetWord).compute();
+            return left.join() + right;
+        }
+    }
+    
+    /**
+     * Helper method to choose where a parallel text task splits.
+     * Ranges up to PARALLEL_TEXT_CHUNK are not split (returns to); larger
+     * ones split at the first delimiter after the midpoint, so no word is
+     * cut in two.
+     */
+    private static int textSplitPoint(CharSequence text, int from, int to) {
+        return to - from > PARALLEL_TEXT_CHUNK ? wordEnd(text, from + (to - from) / 2, to) : to;
     }
     
     /**
      * Main method to demonstrate both operations
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--benchmark")) {
+            runBenchmarks(args.length > 1 ? Integer.parseInt(args[1]) : 64);
+            return;
+        }
+        
         Scanner scanner = new Scanner(System.in);
         
         System.out.println("\n" + "=".repeat(70));
@@ -288,6 +2448,227 @@ public class Q5_ArrayAndStringOperations {
         scanner.close();
     }
     
+    /**
+     * Benchmark mode: java Q5_ArrayAndStringOperations --benchmark [corpus MB]
+     * (pass 1024 to reproduce the 1 GB corpus measurements)
+     */
+    public static void runBenchmarks(int corpusMegabytes) {
+        String corpus = buildBenchmarkCorpus(corpusMegabytes);
+        
+        System.out.println("\n" + "=".repeat(70));
+        System.out.printf("    Q5 BENCHMARKS (corpus: %d MB, %d chars)%n", corpusMegabytes, corpus.length());
+        System.out.println("=".repeat(70));
+        
+        benchmarkWordSearch(corpus);
+        benchmarkSubstringSearch(corpus);
+        benchmarkParallelWordCount(corpus);
+        benchmarkTopK(corpusMegabytes);
+    }
+    
+    /**
+     * Benchmark: regex split tokenizer vs. the char-scanning tokenizer
+     */
+    private static void benchmarkWordSearch(String corpus) {
+        System.out.println("\n⏱ countWordOccurrences (best of 5 runs)");
+        System.out.println("-".repeat(70));
+        
+        int expected = countWordOccurrencesRegex(corpus, "Java");
+        int actual = countWordOccurrences(corpus, "Java");
+        
+        double regexMillis = bestOfMillis(() -> countWordOccurrencesRegex(corpus, "Java"), 5);
+        double scanMillis = bestOfMillis(() -> countWordOccurrences(corpus, "Java"), 5);
+        
+        printBenchmarkRow("split regex (original)", regexMillis, corpus.length());
+        printBenchmarkRow("char-scanning tokenizer", scanMillis, corpus.length());
+        System.out.printf("Matches: %d vs %d (%s), speedup %.1fx%n",
+            expected, actual, expected == actual ? "identical" : "MISMATCH", regexMillis / scanMillis);
+    }
+    
+    /**
+     * Benchmark: parallel word count and frequency with 1 to 32 worker threads
+     */
+    private static void benchmarkParallelWordCount(String corpus) {
+        int expectedCount = countWordOccurrences(corpus, "Java");
+        Map<String, Integer> expectedFrequency = getWordFrequency(corpus);
+        double countBase = bestOfMillis(() -> countWordOccurrences(corpus, "Java"), 3);
+        double frequencyBase = bestOfMillis(() -> WordFrequency.of(corpus).distinctWords(), 3);
+        
+        System.out.printf("%n⏱ parallel word counting (best of 3 runs, %d hardware threads)%n",
+            Runtime.getRuntime().availableProcessors());
+        System.out.println("-".repeat(70));
+        System.out.printf("%-8s %14s %9s %16s %9s %7s%n", "threads", "count (ms)", "speedup", "frequency (ms)", "speedup", "exact");
+        System.out.printf("%-8s %14.1f %9s %16.1f %9s %7s%n", "seq", countBase, "1.0x", frequencyBase, "1.0x", "-");
+        
+        for (int threads = 1; threads <= 32; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                double countMillis = bestOfMillis(() -> countWordOccurrencesParallel(corpus, "Java", pool), 3);
+                double frequencyMillis = bestOfMillis(() -> WordFrequency.ofParallel(corpus, pool).distinctWords(), 3);
+                boolean exact = countWordOccurrencesParallel(corpus, "Java", pool) == expectedCount
+                    && WordFrequency.ofParallel(corpus, pool).toMap().equals(expectedFrequency);
+                
+                System.out.printf("%-8d %14.1f %8.1fx %16.1f %8.1fx %7s%n", threads, countMillis,
+                    countBase / countMillis, frequencyMillis, frequencyBase / frequencyMillis, exact ? "yes" : "NO");
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+    
+    /**
+     * Benchmark: lower-case copy + indexOf vs. the precompiled BMH searcher
+     */
+    private static void benchmarkSubstringSearch(String corpus) {
+        String[] patterns = {
+            "a", "java", "run anywhere", "object-oriented programming",
+            "class-based, object-oriented programming language. "
+        };
+        
+        System.out.println("\n⏱ countWordOccurrencesAlt by pattern length (best of 5 runs)");
+        System.out.println("-".repeat(70));
+        System.out.printf("%-8s %14s %14s %9s %10s%n", "length", "indexOf (ms)", "BMH (ms)", "speedup", "matches");
+        
+        for (String pattern : patterns) {
+            SubstringSearcher searcher = new SubstringSearcher(pattern);
+            int expected = countWordOccurrencesIndexOf(corpus, pattern);
+            int actual = searcher.count(corpus);
+            
+            double indexOfMillis = bestOfMillis(() -> countWordOccurrencesIndexOf(corpus, pattern), 5);
+            double searcherMillis = bestOfMillis(() -> searcher.count(corpus), 5);
+            
+            System.out.printf("%-8d %14.1f %14.1f %8.1fx %10s%n", pattern.length(), indexOfMillis,
+                searcherMillis, indexOfMillis / searcherMillis, expected == actual ? actual : "MISMATCH");
+        }
+    }
+    
+    /**
+     * The original indexOf-based substring count, kept as the benchmark baseline
+     */
+    private static int countWordOccurrencesIndexOf(String text, String searchWord) {
+        int count = 0;
+        int index = 0;
+        String lowerText = text.toLowerCase();
+        String lowerWord = searchWord.toLowerCase();
+        
+        while ((index = lowerText.indexOf(lowerWord, index)) != -1) {
+            count++;
+            index += lowerWord.length();
+        }
+        return count;
+    }
+    
+    /**
+     * Benchmark: ranking the full vocabulary vs. a bounded heap vs. Space-Saving
+     */
+    private static void benchmarkTopK(int corpusMegabytes) {
+        final int k = 20;
+        final int counters = 10_000;
+        String corpus = buildVocabularyCorpus(corpusMegabytes, 2_000_000);
+        WordFrequency frequency = WordFrequency.of(corpus);
+        Map<String, Integer> map = frequency.toMap();
+        
+        System.out.printf("%n⏱ top-%d words of %,d distinct (best of 5 runs)%n", k, frequency.distinctWords());
+        System.out.println("-".repeat(70));
+        
+        double sortMillis = bestOfMillis(() -> map.entrySet().stream()
+            .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
+            .limit(k).mapToLong(Map.Entry::getValue).sum(), 5);
+        double heapMillis = bestOfMillis(() -> frequency.topK(k).size(), 5);
+        double exactMillis = bestOfMillis(() -> WordFrequency.of(corpus).distinctWords(), 3);
+        double approxMillis = bestOfMillis(() -> {
+            HeavyHitters hitters = new HeavyHitters(counters);
+            hitters.addText(corpus);
+            return hitters.totalWords();
+        }, 3);
+        
+        HeavyHitters hitters = new HeavyHitters(counters);
+        hitters.addText(corpus);
+        int agree = 0;
+        List<Map.Entry<String, Integer>> exactTop = frequency.topK(k);
+        List<Map.Entry<String, Long>> approxTop = hitters.topK(k);
+        for (int r = 0; r < Math.min(exactTop.size(), approxTop.size()); r++) {
+            if (exactTop.get(r).getKey().equals(approxTop.get(r).getKey())) agree++;
+        }
+        
+        System.out.printf("%-32s %10.1f ms   ranks %,d boxed entries%n", "sort all entries (original)", sortMillis, map.size());
+        System.out.printf("%-32s %10.1f ms   heap of %d slots%n", "bounded min-heap topK", heapMillis, k);
+        System.out.printf("%-32s %10.1f ms   %,d table entries%n", "exact count + table", exactMillis, frequency.distinctWords());
+        System.out.printf("%-32s %10.1f ms   %,d counters (max error %,d)%n", "Space-Saving stream", approxMillis, counters, hitters.maxError());
+        System.out.printf("Top-%d ranking agreement (exact vs Space-Saving): %d/%d%n", k, agree, k);
+    }
+    
+    /**
+     * Helper method to build a corpus with a large, skewed (Zipf-like) vocabulary
+     */
+    private static String buildVocabularyCorpus(int megabytes, int vocabulary) {
+        long targetChars = (long) megabytes * 1024 * 1024;
+        StringBuilder sb = new StringBuilder((int) Math.min(targetChars + 32, Integer.MAX_VALUE - 8));
+        Random random = new Random(7);
+        
+        while (sb.length() < targetChars) {
+            int rank = (int) (vocabulary * Math.pow(random.nextDouble(), 4));
+            sb.append("term").append(rank).append(random.nextInt(8) == 0 ? ". " : " ");
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * The original regex-based word count, kept as the benchmark baseline
+     */
+    private static int countWordOccurrencesRegex(String text, String searchWord) {
+        int count = 0;
+        String[] words = text.toLowerCase().split("\\s+|[.,!?;:\"-]+");
+        String targetWord = searchWord.toLowerCase();
+        
+        for (String word : words) {
+            if (word.equals(targetWord)) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Helper method to build a repeatable benchmark corpus of roughly the given size
+     */
+    private static String buildBenchmarkCorpus(int megabytes) {
+        String[] sentences = {
+            "Java is a high-level, class-based, object-oriented programming language. ",
+            "The quick brown fox jumps over the lazy dog! ",
+            "Arrays, strings and loops: the building blocks of every JAVA program? ",
+            "\"Write once, run anywhere\" - that was the promise of java; it mostly held.\n"
+        };
+        long targetChars = (long) megabytes * 1024 * 1024;
+        StringBuilder sb = new StringBuilder((int) Math.min(targetChars + 128, Integer.MAX_VALUE - 8));
+        Random random = new Random(42);
+        
+        while (sb.length() < targetChars) {
+            sb.append(sentences[random.nextInt(sentences.length)]);
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Helper method to time a task, returning the fastest of several runs in milliseconds
+     */
+    private static double bestOfMillis(LongSupplier task, int runs) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            benchmarkSink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+    
+    /**
+     * Helper method to print one benchmark result line
+     */
+    private static void printBenchmarkRow(String label, double millis, long chars) {
+        System.out.printf("%-32s %10.1f ms %10.1f MB/s%n",
+            label, millis, chars / (1024.0 * 1024.0) / (millis / 1000.0));
+    }
+    
     /**
      * Helper method to convert array to string
      */
@@ -1,6 +1,16 @@
-import java.util.Scanner;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Q6: Age Classification and Quadratic Equation Solver
@@ -17,7 +27,46 @@ import java.util.List;
 public class Q6_AgeAndQuadratic {
     
     // Private fields
-    private List<String> calculationHistory = new ArrayList<>();
+    private final Q7_QuadraticRoots.SolutionHistory calculationHistory =
+        new Q7_QuadraticRoots.SolutionHistory(Q7_QuadraticRoots.DEFAULT_HISTORY_CAPACITY);
+    
+    // Age category codes of the default scheme (13/18/65 cut-offs)
+    public static final byte AGE_INVALID = 0;
+    public static final byte AGE_CHILD = 1;
+    public static final byte AGE_TEENAGER = 2;
+    public static final byte AGE_ADULT = 3;
+    public static final byte AGE_SENIOR = 4;
+    public static final int AGE_CATEGORY_COUNT = 5;
+    
+    // Arrays shorter than this are classified on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+    
+    // Number of ages each fork/join leaf task classifies sequentially
+    private static final int PARALLEL_LEAF_SIZE = 1 << 16;
+    
+    // Holds benchmark results so the JIT cannot discard the measured work
+    private static volatile long benchmarkSink;
+    
+    /**
+     * Helper method: true if an array is long enough to be worth forking for
+     */
+    private static boolean useParallel(int length) {
+        return length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+    
+    /**
+     * Method to get the category code of an age in the default scheme
+     */
+    public static byte ageCode(int age) {
+        return AgeBandScheme.DEFAULT.code(age);
+    }
+    
+    /**
+     * Method to get the label of a category code in the default scheme
+     */
+    public static String ageLabel(byte code) {
+        return AgeBandScheme.DEFAULT.label(code);
+    }
     
     /**
      * (a) Method to classify age with additional details
@@ -29,39 +78,403 @@ public class Q6_AgeAndQuadratic {
      * @return classification string
      */
     public static String classifyAge(int age) {
-        if (age < 0) {
-            return "Invalid age";
-        } else if (age < 13) {
-            return "Child (Early)";
-        } else if (age < 18) {
-            return "Teenager/Adolescent";
-        } else if (age < 65) {
-            return "Adult";
-        } else {
-            return "Senior Citizen";
+        return AgeBandScheme.DEFAULT.classify(age);
+    }
+    
+    /**
+     * Bulk classifier (default scheme): writes the category code of every
+     * age and returns the histogram of codes, both in one pass with no
+     * labels involved.
+     * 
+     * @param ages  the ages to classify
+     * @param codes output: category code per age (same length), or null
+     *              to compute only the histogram
+     * @return counts indexed by category code (length AGE_CATEGORY_COUNT)
+     */
+    public static long[] classifyAges(int[] ages, byte[] codes) {
+        return AgeBandScheme.DEFAULT.classifyAll(ages, codes);
+    }
+    
+    /**
+     * Bulk classifier for ages stored one per byte (read as unsigned 0-255)
+     */
+    public static long[] classifyAges(byte[] ages, byte[] codes) {
+        return AgeBandScheme.DEFAULT.classifyAll(ages, codes);
+    }
+    
+    /**
+     * Parallel version of classifyAges(int[], byte[]) on the common
+     * ForkJoinPool; arrays below PARALLEL_THRESHOLD run sequentially
+     */
+    public static long[] classifyAgesParallel(int[] ages, byte[] codes) {
+        return AgeBandScheme.DEFAULT.classifyAllParallel(ages, codes);
+    }
+    
+    /**
+     * Parallel version of classifyAges(byte[], byte[])
+     */
+    public static long[] classifyAgesParallel(byte[] ages, byte[] codes) {
+        return AgeBandScheme.DEFAULT.classifyAllParallel(ages, codes);
+    }
+    
+    /**
+     * Age band definition: ascending lower bounds with a label per band.
+     * Code 0 is "Invalid age" (negative ages); band i has code i + 1 and
+     * covers [lowerBound(i), lowerBound(i + 1)). The first band starts at 0
+     * and the last one is open-ended.
+     * 
+     * The scheme is compiled once for lookups: if the last lower bound is
+     * at most DENSE_TABLE_LIMIT, a table holds the code of every age up to
+     * it (one load per age); otherwise codes come from a binary search
+     * over the lower bounds (O(log bands) per age).
+     * 
+     * Config file format (see load), one band per line:
+     * <pre>
+     * # lower-bound  label
+     * 0   Child (Early)
+     * 13  Teenager/Adolescent
+     * 18  Adult
+     * 65  Senior Citizen
+     * </pre>
+     */
+    public static final class AgeBandScheme {
+        // The 13/18/65 scheme that classifyAge has always used
+        public static final AgeBandScheme DEFAULT = new AgeBandScheme(
+            new int[] {0, 13, 18, 65},
+            new String[] {"Child (Early)", "Teenager/Adolescent", "Adult", "Senior Citizen"});
+        
+        // Largest last lower bound compiled into a dense table
+        public static final int DENSE_TABLE_LIMIT = 1 << 16;
+        
+        // Codes are bytes, so this is the most bands a scheme can have
+        public static final int MAX_BANDS = Byte.MAX_VALUE;
+        
+        private static final String INVALID_LABEL = "Invalid age";
+        
+        private final int[] lowerBounds;
+        private final String[] labels;
+        
+        // Dense mode: table[min(age, tableMax) + 1] is the code (table[0] for age < 0)
+        private final byte[] table;
+        private final int tableMax;
+        
+        /**
+         * @param lowerBounds strictly ascending lower bounds, the first one 0
+         * @param bandLabels  one label per band
+         * @throws IllegalArgumentException if the bands are not well formed
+         */
+        public AgeBandScheme(int[] lowerBounds, String[] bandLabels) {
+            if (lowerBounds.length == 0 || lowerBounds.length != bandLabels.length) {
+                throw new IllegalArgumentException("need one label per band and at least one band");
+            }
+            if (lowerBounds.length > MAX_BANDS) {
+                throw new IllegalArgumentException("at most " + MAX_BANDS + " bands are supported");
+            }
+            if (lowerBounds[0] != 0) {
+                throw new IllegalArgumentException("the first band must start at age 0");
+            }
+            for (int i = 1; i < lowerBounds.length; i++) {
+                if (lowerBounds[i] <= lowerBounds[i - 1]) {
+                    throw new IllegalArgumentException("lower bounds must be strictly ascending");
+                }
+            }
+            
+            this.lowerBounds = lowerBounds.clone();
+            this.labels = new String[lowerBounds.length + 1];
+            this.labels[0] = INVALID_LABEL;
+            System.arraycopy(bandLabels, 0, this.labels, 1, bandLabels.length);
+            
+            int last = lowerBounds[lowerBounds.length - 1];
+            if (last <= DENSE_TABLE_LIMIT) {
+                // At least 0-255 so byte ages never need clamping
+                tableMax = Math.max(last, 255);
+                table = new byte[tableMax + 2];
+                byte code = 0;
+                for (int age = 0; age <= tableMax; age++) {
+                    while (code < lowerBounds.length && age >= lowerBounds[code]) {
+                        code++;
+                    }
+                    table[age + 1] = code;
+                }
+            } else {
+                tableMax = -1;
+                table = null;
+            }
+        }
+        
+        /**
+         * Method to load a scheme from a config file: one "lower-bound label"
+         * pair per line; blank lines and lines starting with # are ignored
+         * 
+         * @throws IllegalArgumentException naming the line of a malformed entry
+         */
+        public static AgeBandScheme load(Path file) throws IOException {
+            List<Integer> bounds = new ArrayList<>();
+            List<String> bandLabels = new ArrayList<>();
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            
+            for (int n = 0; n < lines.size(); n++) {
+                String line = lines.get(n).trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\\s+", 2);
+                if (parts.length < 2) {
+                    throw new IllegalArgumentException(file + ":" + (n + 1) + ": expected \"lower-bound label\"");
+                }
+                try {
+                    bounds.add(Integer.parseInt(parts[0]));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(file + ":" + (n + 1) + ": invalid age \"" + parts[0] + "\"");
+                }
+                bandLabels.add(parts[1]);
+            }
+            
+            int[] lowerBounds = new int[bounds.size()];
+            for (int i = 0; i < lowerBounds.length; i++) {
+                lowerBounds[i] = bounds.get(i);
+            }
+            return new AgeBandScheme(lowerBounds, bandLabels.toArray(new String[0]));
+        }
+        
+        /**
+         * Method to get the number of codes (bands + 1 for invalid ages)
+         */
+        public int codeCount() {
+            return labels.length;
+        }
+        
+        public boolean isDense() {
+            return table != null;
+        }
+        
+        /**
+         * Method to get the category code of an age
+         */
+        public byte code(int age) {
+            if (table != null) {
+                return table[Math.max(Math.min(age, tableMax), -1) + 1];
+            }
+            return searchCode(age);
+        }
+        
+        public String label(byte code) {
+            return labels[code];
+        }
+        
+        public String classify(int age) {
+            return labels[code(age)];
+        }
+        
+        /**
+         * Helper method: code by binary search (sparse mode)
+         */
+        private byte searchCode(int age) {
+            if (age < 0) {
+                return 0;
+            }
+            int low = 0;
+            int high = lowerBounds.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (lowerBounds[mid] <= age) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return (byte) (low + 1);
+        }
+        
+        /**
+         * Method to classify every age into codes (or null) and return the
+         * histogram of codes (length codeCount())
+         */
+        public long[] classifyAll(int[] ages, byte[] codes) {
+            long[] counts = new long[labels.length];
+            classifyRange(ages, codes, 0, ages.length, counts);
+            return counts;
+        }
+        
+        /**
+         * Method to classify ages stored one per byte (read as unsigned 0-255)
+         */
+        public long[] classifyAll(byte[] ages, byte[] codes) {
+            long[] counts = new long[labels.length];
+            classifyRange(ages, codes, 0, ages.length, counts);
+            return counts;
+        }
+        
+        /**
+         * Parallel version of classifyAll(int[], byte[]) on the common ForkJoinPool
+         */
+        public long[] classifyAllParallel(int[] ages, byte[] codes) {
+            if (!useParallel(ages.length)) {
+                return classifyAll(ages, codes);
+            }
+            return ForkJoinPool.commonPool().invoke(new AgeClassificationTask(this, ages, null, codes, 0, ages.length));
+        }
+        
+        /**
+         * Parallel version of classifyAll(byte[], byte[])
+         */
+        public long[] classifyAllParallel(byte[] ages, byte[] codes) {
+            if (!useParallel(ages.length)) {
+                return classifyAll(ages, codes);
+            }
+            return ForkJoinPool.commonPool().invoke(new AgeClassificationTask(this, null, ages, codes, 0, ages.length));
+        }
+        
+        /**
+         * Helper method: classify ages[from, to) into codes and counts
+         */
+        void classifyRange(int[] ages, byte[] codes, int from, int to, long[] counts) {
+            if (table == null) {
+                for (int i = from; i < to; i++) {
+                    byte code = searchCode(ages[i]);
+                    if (codes != null) {
+                        codes[i] = code;
+                    }
+                    counts[code]++;
+                }
+                return;
+            }
+            
+            byte[] table = this.table;
+            int tableMax = this.tableMax;
+            if (codes == null) {
+                for (int i = from; i < to; i++) {
+                    counts[table[Math.max(Math.min(ages[i], tableMax), -1) + 1]]++;
+                }
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                byte code = table[Math.max(Math.min(ages[i], tableMax), -1) + 1];
+                codes[i] = code;
+                counts[code]++;
+            }
+        }
+        
+        /**
+         * Helper method: classify unsigned byte ages[from, to) into codes and counts
+         */
+        void classifyRange(byte[] ages, byte[] codes, int from, int to, long[] counts) {
+            if (table == null) {
+                for (int i = from; i < to; i++) {
+                    byte code = searchCode(ages[i] & 0xFF);
+                    if (codes != null) {
+                        codes[i] = code;
+                    }
+                    counts[code]++;
+                }
+                return;
+            }
+            
+            byte[] table = this.table;
+            if (codes == null) {
+                for (int i = from; i < to; i++) {
+                    counts[table[(ages[i] & 0xFF) + 1]]++;
+                }
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                byte code = table[(ages[i] & 0xFF) + 1];
+                codes[i] = code;
+                counts[code]++;
+            }
+        }
+        
+        /**
+         * Method to display a histogram returned by classifyAll
+         */
+        public void displayHistogram(long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            
+            System.out.println("\n📊 Age Distribution:");
+            for (int code = 0; code < labels.length; code++) {
+                System.out.printf("  %-20s %,14d  (%5.1f%%)%n", labels[code], counts[code],
+                    total == 0 ? 0.0 : 100.0 * counts[code] / total);
+            }
+            System.out.printf("  %-20s %,14d%n", "Total", total);
         }
     }
     
+    /**
+     * Fork/join task classifying ages[from, to) of either an int[] or a byte[]
+     * array; each leaf fills its own histogram and parents add them up
+     */
+    private static final class AgeClassificationTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+        
+        private final AgeBandScheme scheme;
+        private final int[] intAges;
+        private final byte[] byteAges;
+        private final byte[] codes;
+        private final int from;
+        private final int to;
+        
+        AgeClassificationTask(AgeBandScheme scheme, int[] intAges, byte[] byteAges, byte[] codes, int from, int to) {
+            this.scheme = scheme;
+            this.intAges = intAges;
+            this.byteAges = byteAges;
+            this.codes = codes;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected long[] compute() {
+            if (to - from <= PARALLEL_LEAF_SIZE) {
+                long[] counts = new long[scheme.codeCount()];
+                if (intAges != null) {
+                    scheme.classifyRange(intAges, codes, from, to, counts);
+                } else {
+                    scheme.classifyRange(byteAges, codes, from, to, counts);
+                }
+                return counts;
+            }
+            int mid = (from + to) >>> 1;
+            AgeClassificationTask left = new AgeClassificationTask(scheme, intAges, byteAges, codes, from, mid);
+            left.fork();
+            long[] counts = new AgeClassificationTask(scheme, intAges, byteAges, codes, mid, to).compute();
+            long[] leftCounts = left.join();
+            for (int c = 0; c < counts.length; c++) {
+                counts[c] += leftCounts[c];
+            }
+            return counts;
+        }
+    }
+    
+    /**
+     * Method to display a histogram returned by classifyAges
+     */
+    public static void displayAgeHistogram(long[] counts) {
+        AgeBandScheme.DEFAULT.displayHistogram(counts);
+    }
+    
     /**
      * Method to get detailed age category information
      */
     public static void displayAgeCategory(int age) {
-        String category = classifyAge(age);
+        byte code = ageCode(age);
         
         System.out.printf("\nAge: %d years%n", age);
-        System.out.printf("Category: %s%n", category);
+        System.out.printf("Category: %s%n", ageLabel(code));
         
-        switch (category) {
-            case "Child (Early)":
+        switch (code) {
+            case AGE_CHILD:
                 System.out.println("Description: Young child, requires parental supervision");
                 break;
-            case "Teenager/Adolescent":
+            case AGE_TEENAGER:
                 System.out.println("Description: Adolescent, beginning independence");
                 break;
-            case "Adult":
+            case AGE_ADULT:
                 System.out.println("Description: Working age adult, full responsibilities");
                 break;
-            case "Senior Citizen":
+            case AGE_SENIOR:
                 System.out.println("Description: Retired or nearing retirement, entitled to senior benefits");
                 break;
             default:
@@ -128,11 +541,21 @@ public class Q6_AgeAndQuadratic {
      * Method to solve multiple equations and store history
      */
     public void solveAndStore(double a, double b, double c) {
-        String equation = String.format("%.2fx² + %.2fx + %.2f = 0", a, b, c);
-        calculationHistory.add(equation);
+        if (a == 0) {
+            System.out.println("❌ Error: Coefficient 'a' cannot be zero!");
+            return;
+        }
+        calculationHistory.record(Q7_QuadraticRoots.solve(a, b, c));
         solveQuadratic(a, b, c);
     }
     
+    /**
+     * Method to get the calculation history (e.g. to enable spilling to a file)
+     */
+    public Q7_QuadraticRoots.SolutionHistory getHistory() {
+        return calculationHistory;
+    }
+    
     /**
      * Method to display calculation history
      */
@@ -143,15 +566,120 @@ public class Q6_AgeAndQuadratic {
         }
         
         System.out.println("\n📜 Calculation History:");
-        for (int i = 0; i < calculationHistory.size(); i++) {
-            System.out.printf("%d. %s%n", i+1, calculationHistory.get(i));
+        calculationHistory.display(System.out);
+    }
+    
+    /**
+     * Benchmark mode: java Q6_AgeAndQuadratic --benchmark [ages]
+     * Compares classifyAge per element (labels, counted in a HashMap) with
+     * the table-driven bulk classifier, sequential and parallel, and shows
+     * how a 120-band scheme performs as a dense table and by binary search
+     */
+    public static void runBenchmark(int size) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.printf("    Q6 AGE CLASSIFICATION BENCHMARK (%,d ages)%n", size);
+        System.out.println("=".repeat(70));
+        
+        Random random = new Random(3);
+        int[] ages = new int[size];
+        byte[] byteAges = new byte[size];
+        for (int i = 0; i < size; i++) {
+            ages[i] = random.nextInt(101);
+            byteAges[i] = (byte) ages[i];
+        }
+        byte[] codes = new byte[size];
+        
+        long[] expected = classifyAges(ages, null);
+        System.out.printf("%n%-40s %12s %12s%n", "method", "best ms", "Mages/s");
+        System.out.println("-".repeat(66));
+        
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            Map<String, Long> counts = new HashMap<>();
+            for (int age : ages) {
+                counts.merge(classifyAge(age), 1L, Long::sum);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            benchmarkSink += counts.size();
+        }
+        printBenchmarkRow("classifyAge + HashMap<String, Long>", best, size);
+        
+        for (int variant = 0; variant < 5; variant++) {
+            best = Long.MAX_VALUE;
+            for (int run = 0; run < 5; run++) {
+                long start = System.nanoTime();
+                long[] counts;
+                switch (variant) {
+                    case 0: counts = classifyAges(ages, null); break;
+                    case 1: counts = classifyAges(ages, codes); break;
+                    case 2: counts = classifyAges(byteAges, codes); break;
+                    case 3: counts = classifyAgesParallel(ages, codes); break;
+                    default: counts = classifyAgesParallel(byteAges, codes); break;
+                }
+                best = Math.min(best, System.nanoTime() - start);
+                if (!Arrays.equals(counts, expected)) {
+                    System.out.println("❌ Histogram mismatch in variant " + variant);
+                }
+            }
+            String[] names = {
+                "classifyAges(int[]) histogram only", "classifyAges(int[]) codes + histogram",
+                "classifyAges(byte[]) codes + histogram", "classifyAgesParallel(int[])",
+                "classifyAgesParallel(byte[])"
+            };
+            printBenchmarkRow(names[variant], best, size);
+        }
+        
+        // Scaling with the number of bands: one band per year (dense table)
+        // versus bands too wide apart for a table (binary search)
+        for (boolean dense : new boolean[] {true, false}) {
+            int[] lowerBounds = new int[120];
+            String[] labels = new String[120];
+            for (int i = 0; i < lowerBounds.length; i++) {
+                lowerBounds[i] = dense ? i : i * (AgeBandScheme.DENSE_TABLE_LIMIT / 8);
+                labels[i] = "Band " + i;
+            }
+            AgeBandScheme scheme = new AgeBandScheme(lowerBounds, labels);
+            best = Long.MAX_VALUE;
+            for (int run = 0; run < 5; run++) {
+                long start = System.nanoTime();
+                benchmarkSink += scheme.classifyAll(ages, codes)[1];
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            printBenchmarkRow(dense ? "120 bands, dense table" : "120 bands, binary search", best, size);
         }
+        
+        System.out.printf("%n(common pool parallelism: %d)%n", ForkJoinPool.getCommonPoolParallelism());
+        displayAgeHistogram(expected);
+    }
+    
+    /**
+     * Helper method: print one benchmark row
+     */
+    private static void printBenchmarkRow(String name, long nanos, int size) {
+        System.out.printf("%-40s %12.1f %12.1f%n", name, nanos / 1e6, size / (nanos / 1e3));
     }
     
     /**
      * Main method to demonstrate both features
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--benchmark")) {
+            runBenchmark(args.length > 1 ? Integer.parseInt(args[1]) : 50_000_000);
+            return;
+        }
+        
+        // Optional custom age bands: java Q6_AgeAndQuadratic --bands <config file>
+        AgeBandScheme scheme = null;
+        if (args.length > 1 && args[0].equals("--bands")) {
+            try {
+                scheme = AgeBandScheme.load(Path.of(args[1]));
+            } catch (IOException | IllegalArgumentException e) {
+                System.out.println("❌ Error: could not load age bands: " + e.getMessage());
+                System.out.println("Using the default bands (13/18/65).");
+            }
+        }
+        
         Scanner scanner = new Scanner(System.in);
         Q6_AgeAndQuadratic q6 = new Q6_AgeAndQuadratic();
         
@@ -165,7 +693,10 @@ public class Q6_AgeAndQuadratic {
         System.out.print("Enter your age: ");
         int age = getValidInput(scanner);
         
-        if (age >= 0) {
+        if (age >= 0 && scheme != null) {
+            System.out.printf("\nAge: %d years%n", age);
+            System.out.printf("Category: %s%n", scheme.classify(age));
+        } else if (age >= 0) {
             displayAgeCategory(age);
         }
         
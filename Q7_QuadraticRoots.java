@@ -1,6 +1,16 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.Scanner;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Q7: Quadratic Equation Roots Solver
@@ -17,13 +27,369 @@ import java.util.List;
 public class Q7_QuadraticRoots {
     
     // Private fields
-    private double a;
-    private double b;
-    private double c;
-    private double discriminant;
-    private double root1;
-    private double root2;
-    private List<String> solutionHistory = new ArrayList<>();
+    private QuadraticSolution solution = compute(0, 0, 0, false);
+    private final SolutionHistory solutionHistory;
+    
+    // Root-kind codes written by solveBatch (same as the sign of the discriminant)
+    public static final byte KIND_COMPLEX = -1;
+    public static final byte KIND_REPEATED = 0;
+    public static final byte KIND_DISTINCT = 1;
+    // Kind code for a NaN discriminant (NaN coefficients, or infinite ones that cancel)
+    public static final byte KIND_INVALID = 2;
+    
+    // Stable mode: |d| at or below this fraction of b² + |4ac| counts as zero
+    private static final double DISCRIMINANT_TOLERANCE = 8 * Math.ulp(1.0);
+    
+    // Stable mode: citardauq roots, compensated discriminant, tolerant classification
+    private boolean stableMode;
+    
+    // Holds benchmark results so the JIT cannot discard the measured work
+    private static volatile double benchmarkSink;
+    
+    // Number of solutions kept in memory by default
+    public static final int DEFAULT_HISTORY_CAPACITY = 1000;
+    
+    public Q7_QuadraticRoots() {
+        this(DEFAULT_HISTORY_CAPACITY);
+    }
+    
+    /**
+     * @param historyCapacity number of most recent solutions kept for displayHistory
+     */
+    public Q7_QuadraticRoots(int historyCapacity) {
+        this.solutionHistory = new SolutionHistory(historyCapacity);
+    }
+    
+    /**
+     * Immutable result of solving one equation ax² + bx + c = 0.
+     * Uses the same root layout and kind codes as solveBatch:
+     * - KIND_DISTINCT: x₁ = root1, x₂ = root2
+     * - KIND_REPEATED: x₁ = x₂ = root1 = root2
+     * - KIND_COMPLEX:  x₁,₂ = root1 ± imaginary·i (root2 = root1)
+     * - KIND_INVALID:  the discriminant is NaN, so there are no roots
+     */
+    public static final class QuadraticSolution {
+        public final double a;
+        public final double b;
+        public final double c;
+        public final double discriminant;
+        public final double root1;
+        public final double root2;
+        public final double imaginary;
+        public final byte kind;
+        public final boolean stable;
+        
+        QuadraticSolution(double a, double b, double c, double discriminant,
+                          double root1, double root2, double imaginary, byte kind, boolean stable) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.discriminant = discriminant;
+            this.root1 = root1;
+            this.root2 = root2;
+            this.imaginary = imaginary;
+            this.kind = kind;
+            this.stable = stable;
+        }
+        
+        public boolean hasRealRoots() {
+            return kind == KIND_DISTINCT || kind == KIND_REPEATED;
+        }
+        
+        /**
+         * Method to get x₁ (index 0) or x₂ (index 1) as a complex number
+         */
+        public Complex root(int index) {
+            double imaginaryPart = index == 0 ? imaginary : -imaginary;
+            return new Complex(index == 0 ? root1 : root2, kind == KIND_COMPLEX ? imaginaryPart : 0);
+        }
+        
+        /**
+         * Method to check f(x) ≈ 0 for both roots
+         */
+        public boolean verify() {
+            double[] coefficients = {a, b, c};
+            return root(0).isRootOf(coefficients) && root(1).isRootOf(coefficients);
+        }
+        
+        /**
+         * Method to compute |f(x)| for root 0 or 1 (≈ 0 for a correct root)
+         */
+        public double residual(int index) {
+            Complex root = root(index);
+            return Complex.residual(new double[] {a, b, c}, root.re, root.im);
+        }
+        
+        @Override
+        public String toString() {
+            if (kind == KIND_COMPLEX) {
+                return String.format("%.6f ± %.6fi", root1, imaginary);
+            }
+            if (kind == KIND_INVALID) {
+                return "no roots (discriminant is NaN)";
+            }
+            return kind == KIND_REPEATED
+                ? String.format("%.6f (repeated)", root1)
+                : String.format("%.6f, %.6f", root1, root2);
+        }
+    }
+    
+    /**
+     * Fixed-capacity ring buffer of solved equations. Each entry is stored
+     * as primitives (a, b, c, roots, kind) in parallel arrays, so recording
+     * allocates and formats nothing; text is only produced by display.
+     * When full, the oldest entry is overwritten, or first appended to a
+     * binary spill file if spillTo was called.
+     */
+    public static final class SolutionHistory {
+        // Spill record: a, b, c, root1, root2, imaginary, kind (little-endian)
+        private static final int RECORD_BYTES = 6 * Double.BYTES + 1;
+        private static final int SPILL_BUFFER_BYTES = 1 << 16;
+        
+        private final double[] a;
+        private final double[] b;
+        private final double[] c;
+        private final double[] root1;
+        private final double[] root2;
+        private final double[] imaginary;
+        private final byte[] kind;
+        private long recorded;
+        
+        private Path spillFile;
+        private FileChannel spillChannel;
+        private ByteBuffer spillBuffer;
+        private long spilled;
+        
+        public SolutionHistory(int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("capacity must be positive");
+            }
+            a = new double[capacity];
+            b = new double[capacity];
+            c = new double[capacity];
+            root1 = new double[capacity];
+            root2 = new double[capacity];
+            imaginary = new double[capacity];
+            kind = new byte[capacity];
+        }
+        
+        /**
+         * Method to record one solution (layout as in QuadraticSolution)
+         */
+        public void record(double a, double b, double c,
+                           double root1, double root2, double imaginary, byte kind) {
+            int slot = (int) (recorded % this.a.length);
+            if (recorded >= this.a.length && spillChannel != null) {
+                spill(slot);
+            }
+            this.a[slot] = a;
+            this.b[slot] = b;
+            this.c[slot] = c;
+            this.root1[slot] = root1;
+            this.root2[slot] = root2;
+            this.imaginary[slot] = imaginary;
+            this.kind[slot] = kind;
+            recorded++;
+        }
+        
+        public void record(QuadraticSolution solution) {
+            record(solution.a, solution.b, solution.c,
+                solution.root1, solution.root2, solution.imaginary, solution.kind);
+        }
+        
+        /**
+         * Method to get the number of entries held in memory
+         */
+        public int size() {
+            return (int) Math.min(recorded, a.length);
+        }
+        
+        public int capacity() {
+            return a.length;
+        }
+        
+        /**
+         * Method to get the number of entries ever recorded
+         */
+        public long totalRecorded() {
+            return recorded;
+        }
+        
+        public boolean isEmpty() {
+            return recorded == 0;
+        }
+        
+        /**
+         * Method to append entries evicted from now on to a file instead of
+         * dropping them. Existing file content is kept.
+         */
+        public void spillTo(Path file) throws IOException {
+            close();
+            spillChannel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            spillBuffer = ByteBuffer.allocate(SPILL_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            spillFile = file;
+        }
+        
+        /**
+         * Method to write buffered spill records to the file
+         */
+        public void flush() throws IOException {
+            if (spillChannel == null) {
+                return;
+            }
+            spillBuffer.flip();
+            while (spillBuffer.hasRemaining()) {
+                spillChannel.write(spillBuffer);
+            }
+            spillBuffer.clear();
+        }
+        
+        /**
+         * Method to flush and close the spill file (later evictions are dropped)
+         */
+        public void close() throws IOException {
+            if (spillChannel == null) {
+                return;
+            }
+            try {
+                flush();
+            } finally {
+                spillChannel.close();
+                spillChannel = null;
+                spillBuffer = null;
+            }
+        }
+        
+        /**
+         * Helper method: move one slot into the spill buffer
+         */
+        private void spill(int slot) {
+            try {
+                if (spillBuffer.remaining() < RECORD_BYTES) {
+                    flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            spillBuffer.putDouble(a[slot]).putDouble(b[slot]).putDouble(c[slot])
+                .putDouble(root1[slot]).putDouble(root2[slot]).putDouble(imaginary[slot])
+                .put(kind[slot]);
+            spilled++;
+        }
+        
+        /**
+         * Method to print the entries held in memory, oldest first.
+         * Entries are numbered from the first one ever recorded.
+         */
+        public void display(PrintStream out) {
+            long first = recorded - size();
+            if (first > 0) {
+                if (spilled > 0) {
+                    out.printf("(%d earlier entries spilled to %s)%n", spilled, spillFile);
+                }
+                if (first > spilled) {
+                    out.printf("(%d earlier entries dropped)%n", first - spilled);
+                }
+            }
+            for (long n = first; n < recorded; n++) {
+                int slot = (int) (n % a.length);
+                printEntry(out, n + 1, a[slot], b[slot], c[slot], root1[slot], root2[slot], imaginary[slot], kind[slot]);
+            }
+        }
+        
+        /**
+         * Method to print every entry of a spill file, oldest first
+         * (numbered from the start of the file)
+         */
+        public static void displaySpill(Path file, PrintStream out) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate(SPILL_BUFFER_BYTES / RECORD_BYTES * RECORD_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+                long n = 0;
+                while (channel.read(buffer) > 0 || buffer.position() > 0) {
+                    buffer.flip();
+                    if (buffer.remaining() < RECORD_BYTES) {
+                        break;  // truncated last record
+                    }
+                    while (buffer.remaining() >= RECORD_BYTES) {
+                        printEntry(out, ++n, buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                            buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.get());
+                    }
+                    buffer.compact();
+                }
+            }
+        }
+        
+        /**
+         * Helper method: format one entry
+         */
+        private static void printEntry(PrintStream out, long number, double a, double b, double c,
+                                       double root1, double root2, double imaginary, byte kind) {
+            out.printf("%d. %.2fx² + %.2fx + %.2f = 0", number, a, b, c);
+            if (kind == KIND_DISTINCT) {
+                out.printf("  →  x₁ = %.6f, x₂ = %.6f%n", root1, root2);
+            } else if (kind == KIND_REPEATED) {
+                out.printf("  →  x₁ = x₂ = %.6f%n", root1);
+            } else {
+                out.printf("  →  x₁,₂ = %.6f ± %.6fi%n", root1, imaginary);
+            }
+        }
+    }
+    
+    /**
+     * Method to solve ax² + bx + c = 0 with the textbook formula.
+     * Pure: nothing is printed and no solver state is touched.
+     * 
+     * @throws IllegalArgumentException if a is zero
+     */
+    public static QuadraticSolution solve(double a, double b, double c) {
+        if (a == 0) {
+            throw new IllegalArgumentException("coefficient 'a' cannot be zero");
+        }
+        return compute(a, b, c, false);
+    }
+    
+    /**
+     * Method to solve ax² + bx + c = 0 with the numerically stable method
+     * (see solveBatchStable). Pure, like solve.
+     * 
+     * @throws IllegalArgumentException if a is zero
+     */
+    public static QuadraticSolution solveStable(double a, double b, double c) {
+        if (a == 0) {
+            throw new IllegalArgumentException("coefficient 'a' cannot be zero");
+        }
+        return compute(a, b, c, true);
+    }
+    
+    /**
+     * Helper method: compute the solution without checking a
+     */
+    private static QuadraticSolution compute(double a, double b, double c, boolean stable) {
+        double discriminant = stable ? stableDiscriminant(a, b, c) : (b * b) - (4 * a * c);
+        boolean repeated = stable ? isNegligible(discriminant, a, b, c) : discriminant == 0;
+        
+        if (discriminant > 0 && !repeated) {
+            double sqrtDelta = Math.sqrt(discriminant);
+            if (stable) {
+                double q = citardauqQ(b, sqrtDelta);
+                boolean plusIsCOverQ = plusRootIsCOverQ(b);
+                return new QuadraticSolution(a, b, c, discriminant,
+                    plusIsCOverQ ? c / q : q / a, plusIsCOverQ ? q / a : c / q, 0, KIND_DISTINCT, true);
+            }
+            return new QuadraticSolution(a, b, c, discriminant,
+                (-b + sqrtDelta) / (2 * a), (-b - sqrtDelta) / (2 * a), 0, KIND_DISTINCT, false);
+        }
+        
+        double realPart = -b / (2 * a);
+        if (repeated) {
+            return new QuadraticSolution(a, b, c, discriminant, realPart, realPart, 0, KIND_REPEATED, stable);
+        }
+        double imaginaryPart = Math.sqrt(-discriminant) / (2 * a);
+        return new QuadraticSolution(a, b, c, discriminant, realPart, realPart, imaginaryPart,
+            discriminant < 0 ? KIND_COMPLEX : KIND_INVALID, stable);
+    }
     
     /**
      * Method to set coefficients and calculate roots
@@ -38,103 +404,454 @@ public class Q7_QuadraticRoots {
             return;
         }
         
-        this.a = a;
-        this.b = b;
-        this.c = c;
+        this.solution = compute(a, b, c, stableMode);
+        solutionHistory.record(solution);
+    }
+    
+    /**
+     * Method to switch the numerically stable mode on or off
+     * (applies from the next calculateRoots call)
+     */
+    public void setStableMode(boolean stableMode) {
+        this.stableMode = stableMode;
+    }
+    
+    /**
+     * Method to get the result of the last calculateRoots call
+     */
+    public QuadraticSolution getSolution() {
+        return solution;
+    }
+    
+    /**
+     * Method to get the history of solved equations (e.g. to enable spilling)
+     */
+    public SolutionHistory getHistory() {
+        return solutionHistory;
+    }
+    
+    /**
+     * Method to display the history of solved equations
+     */
+    public void displayHistory() {
+        if (solutionHistory.isEmpty()) {
+            System.out.println("No equations solved yet.");
+            return;
+        }
         
-        // Calculate discriminant: d = b² - 4ac
-        this.discriminant = (b * b) - (4 * a * c);
+        System.out.println("\n📜 Solution History:");
+        solutionHistory.display(System.out);
     }
     
     /**
      * Method to compute and display roots
      */
     public void solveAndDisplay() {
-        System.out.println("\n" + "=".repeat(70));
-        System.out.println("            QUADRATIC EQUATION ROOTS SOLVER");
-        System.out.println("=".repeat(70));
+        printSteps(solution, System.out);
+    }
+    
+    /**
+     * Step-by-step formatter: prints how a solution was derived.
+     * Only called on the interactive path; solve/solveStable never format.
+     */
+    public static void printSteps(QuadraticSolution solution, PrintStream out) {
+        double a = solution.a;
+        double b = solution.b;
+        double c = solution.c;
+        double discriminant = solution.discriminant;
+        double root1 = solution.root1;
+        double root2 = solution.root2;
+        
+        out.println("\n" + "=".repeat(70));
+        out.println("            QUADRATIC EQUATION ROOTS SOLVER");
+        out.println("=".repeat(70));
         
-        System.out.printf("\nEquation: %.2fx² + %.2fx + %.2f = 0%n", a, b, c);
-        System.out.println("\nFormula Used: x = (-b ± √d) / 2a");
-        System.out.println("where d = b² - 4ac (discriminant)");
+        out.printf("\nEquation: %.2fx² + %.2fx + %.2f = 0%n", a, b, c);
+        out.println(solution.stable
+            ? "\nFormula Used: q = -(b + sign(b)·√d) / 2, x = q / a and x = c / q"
+            : "\nFormula Used: x = (-b ± √d) / 2a");
+        out.println("where d = b² - 4ac (discriminant)");
         
-        System.out.printf("\n📊 Calculation Details:%n");
-        System.out.printf("  a = %.2f%n", a);
-        System.out.printf("  b = %.2f%n", b);
-        System.out.printf("  c = %.2f%n", c);
+        out.printf("\n📊 Calculation Details:%n");
+        out.printf("  a = %.2f%n", a);
+        out.printf("  b = %.2f%n", b);
+        out.printf("  c = %.2f%n", c);
         
-        System.out.printf("\n🔢 Discriminant Calculation:%n");
-        System.out.printf("  d = b² - 4ac%n");
-        System.out.printf("  d = (%.2f)² - 4(%.2f)(%.2f)%n", b, a, c);
-        System.out.printf("  d = %.2f - %.2f%n", b*b, 4*a*c);
-        System.out.printf("  d = %.2f%n", discriminant);
+        out.printf("\n🔢 Discriminant Calculation:%n");
+        out.printf("  d = b² - 4ac%n");
+        out.printf("  d = (%.2f)² - 4(%.2f)(%.2f)%n", b, a, c);
+        out.printf("  d = %.2f - %.2f%n", b*b, 4*a*c);
+        out.printf("  d = %.2f%n", discriminant);
         
-        System.out.printf("\n📈 Root Calculation:%n");
+        out.printf("\n📈 Root Calculation:%n");
         
-        if (discriminant > 0) {
+        if (solution.stable && solution.kind == KIND_DISTINCT) {
+            // Two distinct real roots, computed without cancellation
+            double sqrtDelta = Math.sqrt(discriminant);
+            double q = citardauqQ(b, sqrtDelta);
+            boolean plusIsCOverQ = plusRootIsCOverQ(b);
+            
+            out.println("Status: TWO DISTINCT REAL ROOTS (stable method)");
+            out.printf("  √d = √%.2f = %.6f%n", discriminant, sqrtDelta);
+            out.printf("\n  q = -(b + sign(b)·√d) / 2%n");
+            out.printf("    = -(%.2f %s %.6f) / 2%n", b, plusIsCOverQ ? "+" : "-", sqrtDelta);
+            out.printf("    = %.6f%n", q);
+            if (plusIsCOverQ) {
+                out.printf("\n  x₁, x₂ = c / q, q / a%n");
+                out.printf("     = %.2f / %.6f, %.6f / %.2f%n", c, q, q, a);
+            } else {
+                out.printf("\n  x₁, x₂ = q / a, c / q%n");
+                out.printf("     = %.6f / %.2f, %.2f / %.6f%n", q, a, c, q);
+            }
+            
+            out.printf("\n✅ ROOTS:%n");
+            out.printf("   x₁ = %.6f%n", root1);
+            out.printf("   x₂ = %.6f%n", root2);
+        }
+        else if (solution.kind == KIND_DISTINCT) {
             // Two distinct real roots
             double sqrtDelta = Math.sqrt(discriminant);
-            root1 = (-b + sqrtDelta) / (2 * a);
-            root2 = (-b - sqrtDelta) / (2 * a);
-            
-            System.out.println("Status: TWO DISTINCT REAL ROOTS");
-            System.out.printf("  √d = √%.2f = %.6f%n", discriminant, sqrtDelta);
-            System.out.printf("\n  x₁ = (-b + √d) / 2a%n");
-            System.out.printf("     = (%.2f + %.6f) / (2 × %.2f)%n", -b, sqrtDelta, a);
-            System.out.printf("     = %.6f / %.2f%n", (-b + sqrtDelta), 2*a);
-            System.out.printf("     = %.6f%n", root1);
-            
-            System.out.printf("\n  x₂ = (-b - √d) / 2a%n");
-            System.out.printf("     = (%.2f - %.6f) / (2 × %.2f)%n", -b, sqrtDelta, a);
-            System.out.printf("     = %.6f / %.2f%n", (-b - sqrtDelta), 2*a);
-            System.out.printf("     = %.6f%n", root2);
-            
-            System.out.printf("\n✅ ROOTS:%n");
-            System.out.printf("   x₁ = %.6f%n", root1);
-            System.out.printf("   x₂ = %.6f%n", root2);
+            
+            out.println("Status: TWO DISTINCT REAL ROOTS");
+            out.printf("  √d = √%.2f = %.6f%n", discriminant, sqrtDelta);
+            out.printf("\n  x₁ = (-b + √d) / 2a%n");
+            out.printf("     = (%.2f + %.6f) / (2 × %.2f)%n", -b, sqrtDelta, a);
+            out.printf("     = %.6f / %.2f%n", (-b + sqrtDelta), 2*a);
+            out.printf("     = %.6f%n", root1);
+            
+            out.printf("\n  x₂ = (-b - √d) / 2a%n");
+            out.printf("     = (%.2f - %.6f) / (2 × %.2f)%n", -b, sqrtDelta, a);
+            out.printf("     = %.6f / %.2f%n", (-b - sqrtDelta), 2*a);
+            out.printf("     = %.6f%n", root2);
+            
+            out.printf("\n✅ ROOTS:%n");
+            out.printf("   x₁ = %.6f%n", root1);
+            out.printf("   x₂ = %.6f%n", root2);
         } 
-        else if (discriminant == 0) {
+        else if (solution.kind == KIND_REPEATED) {
             // One repeated real root
-            root1 = -b / (2 * a);
-            root2 = root1;
-            
-            System.out.println("Status: ONE REPEATED REAL ROOT (EQUAL ROOTS)");
-            System.out.printf("  √d = √0 = 0%n");
-            System.out.printf("\n  x = -b / 2a%n");
-            System.out.printf("    = %.2f / (2 × %.2f)%n", -b, a);
-            System.out.printf("    = %.2f / %.2f%n", -b, 2*a);
-            System.out.printf("    = %.6f%n", root1);
-            
-            System.out.printf("\n✅ ROOT:%n");
-            System.out.printf("   x₁ = x₂ = %.6f%n", root1);
+            
+            out.println("Status: ONE REPEATED REAL ROOT (EQUAL ROOTS)");
+            out.printf("  √d = √0 = 0%n");
+            out.printf("\n  x = -b / 2a%n");
+            out.printf("    = %.2f / (2 × %.2f)%n", -b, a);
+            out.printf("    = %.2f / %.2f%n", -b, 2*a);
+            out.printf("    = %.6f%n", root1);
+            
+            out.printf("\n✅ ROOT:%n");
+            out.printf("   x₁ = x₂ = %.6f%n", root1);
         } 
         else {
             // No real roots (complex roots)
-            double realPart = -b / (2 * a);
-            double imaginaryPart = Math.sqrt(-discriminant) / (2 * a);
+            double realPart = solution.root1;
+            double imaginaryPart = solution.imaginary;
             
-            System.out.println("Status: NO REAL ROOTS (COMPLEX ROOTS)");
-            System.out.printf("  √|d| = √%.2f = %.6f%n", -discriminant, Math.sqrt(-discriminant));
-            System.out.printf("\n  x₁ = (-b + i√|d|) / 2a = %.6f + %.6fi%n", realPart, imaginaryPart);
-            System.out.printf("  x₂ = (-b - i√|d|) / 2a = %.6f - %.6fi%n", realPart, imaginaryPart);
+            out.println("Status: NO REAL ROOTS (COMPLEX ROOTS)");
+            out.printf("  √|d| = √%.2f = %.6f%n", -discriminant, Math.sqrt(-discriminant));
+            out.printf("\n  x₁ = (-b + i√|d|) / 2a = %.6f + %.6fi%n", realPart, imaginaryPart);
+            out.printf("  x₂ = (-b - i√|d|) / 2a = %.6f - %.6fi%n", realPart, imaginaryPart);
         }
         
+        out.println("\n" + "=".repeat(70));
+    }
+    
+    /**
+     * Batch solver for many equations a[i]x² + b[i]x + c[i] = 0 at once.
+     * Inputs and outputs are parallel arrays (structure of arrays) and
+     * nothing is printed or formatted. The loop body has no data-dependent
+     * branches (only selects), so the JIT can unroll and vectorize it.
+     * 
+     * For each i:
+     * - KIND_DISTINCT: x₁ = root1[i], x₂ = root2[i], imaginary[i] = 0
+     * - KIND_REPEATED: x₁ = x₂ = root1[i] = root2[i], imaginary[i] = 0
+     * - KIND_COMPLEX:  x₁,₂ = root1[i] ± imaginary[i]·i (root2[i] = root1[i])
+     * - KIND_INVALID:  the discriminant is NaN, so there are no roots to report
+     * a[i] must be non-zero; otherwise the roots come out as ±Infinity/NaN.
+     * 
+     * @param a         coefficients of x²
+     * @param b         coefficients of x
+     * @param c         constant terms
+     * @param root1     output: first real root, or real part
+     * @param root2     output: second real root, or real part
+     * @param imaginary output: imaginary part √|d| / 2a, 0 for real roots
+     * @param kind      output: KIND_DISTINCT, KIND_REPEATED, KIND_COMPLEX or KIND_INVALID
+     */
+    public static void solveBatch(double[] a, double[] b, double[] c,
+                                  double[] root1, double[] root2, double[] imaginary, byte[] kind) {
+        int n = a.length;
+        for (int i = 0; i < n; i++) {
+            double ai = a[i];
+            double bi = b[i];
+            double discriminant = (bi * bi) - (4 * ai * c[i]);
+            double sqrtAbs = Math.sqrt(Math.abs(discriminant));
+            boolean complex = discriminant < 0;
+            double realSqrt = complex ? 0 : sqrtAbs;
+            double twoA = 2 * ai;
+            
+            root1[i] = (-bi + realSqrt) / twoA;
+            root2[i] = (-bi - realSqrt) / twoA;
+            imaginary[i] = (complex ? sqrtAbs : 0) / twoA;
+            kind[i] = discriminant > 0 ? KIND_DISTINCT
+                : discriminant < 0 ? KIND_COMPLEX
+                : discriminant == 0 ? KIND_REPEATED
+                : KIND_INVALID;
+        }
+    }
+    
+    /**
+     * Numerically stable batch solver; same inputs, outputs and codes as
+     * solveBatch. Differences from the textbook formula:
+     * - the discriminant is computed with FMA error compensation, so
+     *   b² - 4ac is accurate even when b² ≈ 4ac
+     * - it is classified with a relative tolerance instead of == 0
+     * - real roots use q = -(b + sign(b)√d) / 2, x = q/a and x = c/q
+     *   (the "citardauq" form), which avoids the catastrophic cancellation
+     *   of -b ± √d when b² ≫ 4ac
+     * root1 is still the root of the "+√d" branch, and a repeated root is
+     * written as -b / 2a to both root1 and root2. The loop stays branch-free.
+     */
+    public static void solveBatchStable(double[] a, double[] b, double[] c,
+                                        double[] root1, double[] root2, double[] imaginary, byte[] kind) {
+        int n = a.length;
+        for (int i = 0; i < n; i++) {
+            double ai = a[i];
+            double bi = b[i];
+            double ci = c[i];
+            double discriminant = stableDiscriminant(ai, bi, ci);
+            boolean repeated = isNegligible(discriminant, ai, bi, ci);
+            boolean complex = discriminant < 0 && !repeated;
+            
+            double sqrtAbs = repeated ? 0 : Math.sqrt(Math.abs(discriminant));
+            double q = citardauqQ(bi, complex ? 0 : sqrtAbs);
+            double big = q / ai;
+            double small = q != 0 ? ci / q : big;
+            boolean plusIsSmall = plusRootIsCOverQ(bi);
+            
+            // Repeated and complex roots both sit at -b / 2a; q / a and c / q
+            // would give a repeated root two values differing in the last bits
+            boolean atVertex = repeated || complex;
+            root1[i] = atVertex ? -bi / (2 * ai) : plusIsSmall ? small : big;
+            root2[i] = atVertex ? root1[i] : plusIsSmall ? big : small;
+            imaginary[i] = complex ? sqrtAbs / (2 * ai) : 0;
+            kind[i] = repeated ? KIND_REPEATED
+                : complex ? KIND_COMPLEX
+                : discriminant > 0 ? KIND_DISTINCT
+                : KIND_INVALID;
+        }
+    }
+    
+    /**
+     * Helper method: q = -(b + sign(b)·√d) / 2 of the citardauq form, whose
+     * roots are q / a and c / q; shared with PolynomialRoots
+     */
+    static double citardauqQ(double b, double sqrtDelta) {
+        return -0.5 * (b + Math.copySign(sqrtDelta, b));
+    }
+    
+    /**
+     * Helper method: true if the "+√d" root (-b + √d) / 2a is c / q, false if
+     * it is q / a. Tests the sign bit of b, as copySign in citardauqQ does,
+     * so b = -0.0 counts as negative; shared with PolynomialRoots
+     */
+    static boolean plusRootIsCOverQ(double b) {
+        return Math.copySign(1.0, b) > 0;
+    }
+    
+    /**
+     * Helper method: b² - 4ac with the rounding errors of both products
+     * recovered by FMA (Kahan's compensated discriminant); shared with PolynomialRoots
+     */
+    static double stableDiscriminant(double a, double b, double c) {
+        double p = b * b;
+        double q = 4 * a * c;
+        double pError = Math.fma(b, b, -p);
+        double qError = Math.fma(4 * a, c, -q);
+        return (p - q) + (pError - qError);
+    }
+    
+    /**
+     * Helper method: true if the discriminant is zero up to rounding
+     * relative to the size of b² and 4ac; shared with PolynomialRoots
+     */
+    static boolean isNegligible(double discriminant, double a, double b, double c) {
+        return Math.abs(discriminant) <= DISCRIMINANT_TOLERANCE * (b * b + Math.abs(4 * a * c));
+    }
+    
+    /**
+     * Benchmark mode: java Q7_QuadraticRoots --benchmark [equations]
+     * Compares throughput and accuracy of solveBatch and solveBatchStable,
+     * and counts equations whose roots fail the f(x) ≈ 0 check
+     */
+    public static void runBenchmark(int equations) {
         System.out.println("\n" + "=".repeat(70));
+        System.out.printf("    Q7 BATCH SOLVER BENCHMARK (%,d equations per batch)%n", equations);
+        System.out.println("=".repeat(70));
+        
+        System.out.printf("%n%-22s %-10s %14s %16s %16s %14s%n",
+            "coefficients", "method", "Mequations/s", "max rel. error", "median rel. err", "failed checks");
+        System.out.println("-".repeat(97));
+        benchmarkCase("well-conditioned", 1.0, equations);
+        benchmarkCase("b² ≫ 4ac (b ~ 1e6)", 1e6, equations);
+        benchmarkCase("b² ≫ 4ac (b ~ 1e9)", 1e9, equations);
+        checkRootOrder();
+        checkRepeatedRoots();
+    }
+    
+    /**
+     * Helper method: both methods must return x₁ from the "+√d" branch, so
+     * root1/root2 agree between them on equations where both are accurate,
+     * including b = ±0.0
+     */
+    private static void checkRootOrder() {
+        double[] a = {1, 1, 2, -1, 1, 1, 1, -2};
+        double[] b = {-0.0, 0.0, -0.0, -0.0, -5, 5, 3, 1};
+        double[] c = {-4, -4, -8, 4, 6, 6, -10, 3};
+        int n = a.length;
+        double[] root1 = new double[n];
+        double[] root2 = new double[n];
+        double[] stableRoot1 = new double[n];
+        double[] stableRoot2 = new double[n];
+        double[] imaginary = new double[n];
+        byte[] kind = new byte[n];
+        solveBatch(a, b, c, root1, root2, imaginary, kind);
+        solveBatchStable(a, b, c, stableRoot1, stableRoot2, imaginary, kind);
+        
+        int agreeing = 0;
+        for (int i = 0; i < n; i++) {
+            QuadraticSolution single = solveStable(a[i], b[i], c[i]);
+            boolean agrees = Math.abs(root1[i] - stableRoot1[i]) <= 1e-12 * Math.abs(root1[i])
+                && Math.abs(root2[i] - stableRoot2[i]) <= 1e-12 * Math.abs(root2[i])
+                && single.root1 == stableRoot1[i] && single.root2 == stableRoot2[i];
+            if (agrees) {
+                agreeing++;
+            } else {
+                System.out.printf("  root order differs for %sx² + %sx + %s: textbook %.6f, %.6f; stable %.6f, %.6f%n",
+                    a[i], b[i], c[i], root1[i], root2[i], stableRoot1[i], stableRoot2[i]);
+            }
+        }
+        System.out.printf("%nRoot order agreement (textbook vs stable, b = ±0.0 included): %d / %d equations%n", agreeing, n);
+    }
+    
+    /**
+     * Helper method: both stable methods must report b² ≈ 4ac as one repeated
+     * root with root1 == root2 exactly, also where q / a and c / q round apart
+     */
+    private static void checkRepeatedRoots() {
+        double[] a = {1, 2, 1, 4};
+        double[] b = {0.2, -2.8, -2, 4};
+        double[] c = {0.01, 0.98, 1, 1};
+        int n = a.length;
+        double[] root1 = new double[n];
+        double[] root2 = new double[n];
+        double[] imaginary = new double[n];
+        byte[] kind = new byte[n];
+        solveBatchStable(a, b, c, root1, root2, imaginary, kind);
+        
+        int repeated = 0;
+        for (int i = 0; i < n; i++) {
+            QuadraticSolution single = solveStable(a[i], b[i], c[i]);
+            if (kind[i] == KIND_REPEATED && root1[i] == root2[i]
+                && single.kind == KIND_REPEATED && single.root1 == root1[i] && single.root2 == root1[i]) {
+                repeated++;
+            } else {
+                System.out.printf("  not one repeated root for %sx² + %sx + %s: kind %d, roots %s, %s%n",
+                    a[i], b[i], c[i], kind[i], root1[i], root2[i]);
+            }
+        }
+        System.out.printf("Repeated roots (stable, b² ≈ 4ac): %d / %d equations%n", repeated, n);
+    }
+    
+    /**
+     * Helper method: time both batch solvers on one family of equations and
+     * measure the error of the smaller-magnitude root against a 50-digit reference
+     */
+    private static void benchmarkCase(String label, double bScale, int equations) {
+        Random random = new Random(11);
+        double[] a = new double[equations];
+        double[] b = new double[equations];
+        double[] c = new double[equations];
+        for (int i = 0; i < equations; i++) {
+            a[i] = 0.5 + random.nextDouble();
+            b[i] = (random.nextBoolean() ? 1 : -1) * bScale * (4 + random.nextDouble());
+            c[i] = random.nextDouble() - 2;  // c < 0 guarantees two real roots
+        }
+        double[] root1 = new double[equations];
+        double[] root2 = new double[equations];
+        double[] imaginary = new double[equations];
+        byte[] kind = new byte[equations];
+        
+        for (boolean stable : new boolean[] {false, true}) {
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < 7; run++) {
+                long start = System.nanoTime();
+                if (stable) {
+                    solveBatchStable(a, b, c, root1, root2, imaginary, kind);
+                } else {
+                    solveBatch(a, b, c, root1, root2, imaginary, kind);
+                }
+                best = Math.min(best, System.nanoTime() - start);
+                benchmarkSink += root1[run] + root2[run];
+            }
+            
+            // Accuracy on a sample, against an exact-arithmetic reference
+            int samples = Math.min(equations, 2000);
+            double[] errors = new double[samples];
+            for (int i = 0; i < samples; i++) {
+                double small = Math.abs(root1[i]) < Math.abs(root2[i]) ? root1[i] : root2[i];
+                double exact = referenceSmallRoot(a[i], b[i], c[i]);
+                errors[i] = Math.abs((small - exact) / exact);
+            }
+            Arrays.sort(errors);
+            
+            // f(x) ≈ 0 for every root of the batch (Complex.verifyQuadraticBatch)
+            int failed = Complex.verifyQuadraticBatch(a, b, c, root1, root2, imaginary, kind, Complex.DEFAULT_TOLERANCE);
+            
+            System.out.printf("%-22s %-10s %14.1f %16.2e %16.2e %14d%n", stable ? "" : label, stable ? "stable" : "textbook",
+                equations / (best / 1000.0), errors[samples - 1], errors[samples / 2], failed);
+        }
+    }
+    
+    /**
+     * Helper method: smaller-magnitude real root in 50-digit decimal arithmetic
+     */
+    private static double referenceSmallRoot(double a, double b, double c) {
+        MathContext mc = new MathContext(50);
+        BigDecimal A = new BigDecimal(a);
+        BigDecimal B = new BigDecimal(b);
+        BigDecimal C = new BigDecimal(c);
+        BigDecimal sqrtD = B.multiply(B).subtract(A.multiply(C).multiply(BigDecimal.valueOf(4))).sqrt(mc);
+        // q = -(b + sign(b)√d) / 2 has no cancellation; the small root is c / q
+        BigDecimal q = (b >= 0 ? B.add(sqrtD) : B.subtract(sqrtD)).negate().divide(BigDecimal.valueOf(2), mc);
+        return C.divide(q, mc).doubleValue();
     }
     
     /**
      * Main method with interactive mode
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--benchmark")) {
+            runBenchmark(args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000);
+            return;
+        }
+        
+        // java Q7_QuadraticRoots --stable solves with the numerically stable method
+        boolean stable = args.length > 0 && args[0].equals("--stable");
+        
         Scanner scanner = new Scanner(System.in);
         Q7_QuadraticRoots solver = new Q7_QuadraticRoots();
+        solver.setStableMode(stable);
         String continueChoice;
         
         System.out.println("\n" + "=".repeat(70));
         System.out.println("         Q7: QUADRATIC EQUATION ROOTS SOLVER");
         System.out.println("=".repeat(70));
         System.out.println("\nThis program solves quadratic equations of the form: ax² + bx + c = 0");
-        System.out.println("Using the formula: x = (-b ± √d) / 2a, where d = b² - 4ac\n");
+        if (stable) {
+            System.out.println("Using the stable formula: q = -(b + sign(b)·√d) / 2, x = q / a and x = c / q,");
+            System.out.println("where d = b² - 4ac (computed with FMA error compensation)\n");
+        } else {
+            System.out.println("Using the formula: x = (-b ± √d) / 2a, where d = b² - 4ac\n");
+        }
         
         do {
             System.out.print("Enter coefficient a (must not be zero): ");
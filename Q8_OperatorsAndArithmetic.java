@@ -1,3 +1,10 @@
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
 /**
  * Q8: Java Operators, Arithmetic Operations, and Code Analysis
  * 
@@ -17,9 +24,14 @@
  * - More examples and use cases
  * - Visual demonstrations
  * - Performance tips
+ * - Bit-manipulation toolkit (Bits) with benchmarks against boolean[]
+ * - Operator benchmarks (--benchmark-operators [--markdown]) for the claims in (A) and (B)
  */
 public class Q8_OperatorsAndArithmetic {
     
+    // Holds benchmark results so the JIT cannot discard the measured work
+    private static volatile long benchmarkSink;
+    
     /**
      * (A) OPERATORS EXPLANATION WITH EXAMPLES
      */
@@ -120,6 +132,255 @@ public class Q8_OperatorsAndArithmetic {
         System.out.println("Boolean XOR: " + x + " ^ " + y + " = " + (x ^ y) + "\n");
     }
     
+    /**
+     * Bit-manipulation toolkit behind the XOR/AND/OR examples.
+     * Bit sets are long[] words (bit i is bit i % 64 of word i / 64), so
+     * one operation handles 64 flags, and counting uses the Long.bitCount
+     * intrinsic (a single POPCNT instruction on most CPUs).
+     */
+    public static final class Bits {
+        
+        private Bits() {
+        }
+        
+        /**
+         * Method to count the set bits of all words
+         */
+        public static long popcount(long[] words) {
+            return popcount(words, 0, words.length);
+        }
+        
+        /**
+         * Method to count the set bits of words[from, to)
+         */
+        public static long popcount(long[] words, int from, int to) {
+            long count = 0;
+            for (int i = from; i < to; i++) {
+                count += Long.bitCount(words[i]);
+            }
+            return count;
+        }
+        
+        public static long popcount(int[] words) {
+            long count = 0;
+            for (int word : words) {
+                count += Integer.bitCount(word);
+            }
+            return count;
+        }
+        
+        /**
+         * result[i] = a[i] & b[i]; result may be a or b (in-place update)
+         */
+        public static void and(long[] a, long[] b, long[] result) {
+            int n = Math.min(a.length, b.length);
+            for (int i = 0; i < n; i++) {
+                result[i] = a[i] & b[i];
+            }
+        }
+        
+        /**
+         * result[i] = a[i] | b[i]; result may be a or b
+         */
+        public static void or(long[] a, long[] b, long[] result) {
+            int n = Math.min(a.length, b.length);
+            for (int i = 0; i < n; i++) {
+                result[i] = a[i] | b[i];
+            }
+        }
+        
+        /**
+         * result[i] = a[i] ^ b[i]; result may be a or b
+         */
+        public static void xor(long[] a, long[] b, long[] result) {
+            int n = Math.min(a.length, b.length);
+            for (int i = 0; i < n; i++) {
+                result[i] = a[i] ^ b[i];
+            }
+        }
+        
+        /**
+         * result[i] = a[i] & ~b[i] (set difference a \ b); result may be a or b
+         */
+        public static void andNot(long[] a, long[] b, long[] result) {
+            int n = Math.min(a.length, b.length);
+            for (int i = 0; i < n; i++) {
+                result[i] = a[i] & ~b[i];
+            }
+        }
+        
+        /**
+         * Method to count |a ∩ b| without materializing the intersection
+         */
+        public static long andCount(long[] a, long[] b) {
+            int n = Math.min(a.length, b.length);
+            long count = 0;
+            for (int i = 0; i < n; i++) {
+                count += Long.bitCount(a[i] & b[i]);
+            }
+            return count;
+        }
+        
+        /**
+         * Method to count the positions where a and b differ (Hamming distance)
+         */
+        public static long xorCount(long[] a, long[] b) {
+            int n = Math.min(a.length, b.length);
+            long count = 0;
+            for (int i = 0; i < n; i++) {
+                count += Long.bitCount(a[i] ^ b[i]);
+            }
+            return count;
+        }
+        
+        public static boolean get(long[] words, int bit) {
+            return (words[bit >>> 6] & (1L << bit)) != 0;
+        }
+        
+        public static void set(long[] words, int bit) {
+            words[bit >>> 6] |= 1L << bit;  // shift distance is taken mod 64
+        }
+        
+        public static void clear(long[] words, int bit) {
+            words[bit >>> 6] &= ~(1L << bit);
+        }
+        
+        public static void flip(long[] words, int bit) {
+            words[bit >>> 6] ^= 1L << bit;
+        }
+        
+        /**
+         * Method to get the number of words needed for a number of bits
+         */
+        public static int wordsFor(int bits) {
+            return (bits + 63) >>> 6;
+        }
+        
+        /**
+         * Method to pack a boolean[] into bit set words
+         */
+        public static long[] pack(boolean[] flags) {
+            long[] words = new long[wordsFor(flags.length)];
+            for (int i = 0; i < flags.length; i++) {
+                words[i >>> 6] |= (flags[i] ? 1L : 0L) << i;
+            }
+            return words;
+        }
+        
+        /**
+         * Method to unpack the first n bits into a boolean[]
+         */
+        public static boolean[] unpack(long[] words, int n) {
+            boolean[] flags = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                flags[i] = (words[i >>> 6] & (1L << i)) != 0;
+            }
+            return flags;
+        }
+        
+        /**
+         * Parity: 1 if the number of set bits is odd (XOR of all bits)
+         */
+        public static int parity(long x) {
+            return Long.bitCount(x) & 1;
+        }
+        
+        public static int parity(int x) {
+            return Integer.bitCount(x) & 1;
+        }
+        
+        /**
+         * Method to get the parity of a whole bit set (XOR-fold, then one count)
+         */
+        public static int parity(long[] words) {
+            long folded = 0;
+            for (long word : words) {
+                folded ^= word;
+            }
+            return Long.bitCount(folded) & 1;
+        }
+        
+        /**
+         * Binary to reflected Gray code (neighbours differ in one bit)
+         */
+        public static long toGray(long x) {
+            return x ^ (x >>> 1);
+        }
+        
+        public static int toGray(int x) {
+            return x ^ (x >>> 1);
+        }
+        
+        /**
+         * Gray code to binary: prefix XOR of the bits from the top, in
+         * log₂(64) shift steps instead of a 64-iteration loop
+         */
+        public static long fromGray(long g) {
+            g ^= g >>> 1;
+            g ^= g >>> 2;
+            g ^= g >>> 4;
+            g ^= g >>> 8;
+            g ^= g >>> 16;
+            g ^= g >>> 32;
+            return g;
+        }
+        
+        public static int fromGray(int g) {
+            g ^= g >>> 1;
+            g ^= g >>> 2;
+            g ^= g >>> 4;
+            g ^= g >>> 8;
+            g ^= g >>> 16;
+            return g;
+        }
+    }
+    
+    /**
+     * Example: the operators above applied to whole bit sets (Bits toolkit)
+     */
+    public static void exampleBitToolkit() {
+        System.out.println("=== BIT-MANIPULATION TOOLKIT (Bits) ===\n");
+        
+        // Students 0-9: who passed the exam, who met attendance
+        boolean[] passed =   {true, true, false, true, false, true, true, false, true, true};
+        boolean[] attended = {true, false, true, true, false, true, true, true, false, true};
+        long[] passedBits = Bits.pack(passed);
+        long[] attendedBits = Bits.pack(attended);
+        long[] result = new long[passedBits.length];
+        
+        System.out.println("passed   = " + toBitString(passedBits, passed.length));
+        System.out.println("attended = " + toBitString(attendedBits, attended.length));
+        
+        Bits.and(passedBits, attendedBits, result);
+        System.out.println("\npassed & attended  = " + toBitString(result, passed.length) + "  (" + Bits.popcount(result) + " students, like &&)");
+        Bits.or(passedBits, attendedBits, result);
+        System.out.println("passed | attended  = " + toBitString(result, passed.length) + "  (" + Bits.popcount(result) + " students, like ||)");
+        Bits.xor(passedBits, attendedBits, result);
+        System.out.println("passed ^ attended  = " + toBitString(result, passed.length) + "  (" + Bits.popcount(result) + " students, exactly one)");
+        Bits.andNot(passedBits, attendedBits, result);
+        System.out.println("passed & ~attended = " + toBitString(result, passed.length) + "  (" + Bits.popcount(result) + " students)");
+        
+        System.out.println("\nParity of 5 (101) = " + Bits.parity(5) + ", of 7 (111) = " + Bits.parity(7));
+        
+        System.out.println("\nGray code (consecutive codes differ in exactly one bit):");
+        for (int i = 0; i < 8; i++) {
+            int gray = Bits.toGray(i);
+            System.out.printf("  %d → %3s → back to %d%n", i, Integer.toBinaryString(gray), Bits.fromGray(gray));
+        }
+        System.out.println();
+    }
+    
+    /**
+     * Helper method: bits 0 ... n-1 as a 0/1 string
+     */
+    private static String toBitString(long[] words, int n) {
+        StringBuilder sb = new StringBuilder(n);
+        for (int i = 0; i < n; i++) {
+            sb.append(Bits.get(words, i) ? '1' : '0');
+        }
+        return sb.toString();
+    }
+    
     /**
      * Example (v): Tab Character Escape Sequence (\t)
      * Inserts a horizontal tab for formatting
@@ -219,6 +480,206 @@ public class Q8_OperatorsAndArithmetic {
         System.out.println("if (num % 2 == 1) → number is odd\n");
     }
     
+    /**
+     * Precomputed divider for repeatedly dividing ints by the same runtime
+     * divisor d. Instead of an idiv instruction (20-40 cycles) each quotient
+     * costs one 64-bit multiply, an add and two shifts (Granlund-Montgomery,
+     * "Division by Invariant Integers using Multiplication", as in libdivide
+     * and Hacker's Delight 10-1):
+     * 
+     *   l = max(⌈log₂|d|⌉, 1),  m = 1 + ⌊2^(31+l) / |d|⌋,  m' = m - 2³²
+     *   q = ((n + mulhi(m', n)) >> (l - 1)) - (n >> 31),  then negate if d < 0
+     * 
+     * Results equal n / d and n % d for every int n and every d != 0,
+     * including negatives, d = ±1 and Integer.MIN_VALUE.
+     */
+    public static final class IntDivider {
+        private final int divisor;
+        private final int magic;
+        private final int shift;
+        private final int divisorSign;
+        
+        /**
+         * @throws ArithmeticException if divisor is zero (as n / 0 would)
+         */
+        public IntDivider(int divisor) {
+            if (divisor == 0) {
+                throw new ArithmeticException("/ by zero");
+            }
+            long absDivisor = Math.abs((long) divisor);
+            int l = Math.max(64 - Long.numberOfLeadingZeros(absDivisor - 1), 1);
+            long m = 1 + (1L << (31 + l)) / absDivisor;
+            
+            this.divisor = divisor;
+            this.magic = (int) (m - (1L << 32));
+            this.shift = l - 1;
+            this.divisorSign = divisor >> 31;
+        }
+        
+        public int divisor() {
+            return divisor;
+        }
+        
+        /**
+         * Method to compute n / divisor (truncated, like Java's /)
+         */
+        public int divide(int n) {
+            int q = ((n + (int) (((long) magic * n) >> 32)) >> shift) - (n >> 31);
+            return (q ^ divisorSign) - divisorSign;
+        }
+        
+        /**
+         * Method to compute n % divisor (sign of n, like Java's %)
+         */
+        public int remainder(int n) {
+            return n - divide(n) * divisor;
+        }
+        
+        /**
+         * dst[i] = src[i] / divisor; dst may be src
+         */
+        public void divide(int[] src, int[] dst) {
+            int magic = this.magic;
+            int shift = this.shift;
+            int sign = this.divisorSign;
+            for (int i = 0; i < src.length; i++) {
+                int n = src[i];
+                int q = ((n + (int) (((long) magic * n) >> 32)) >> shift) - (n >> 31);
+                dst[i] = (q ^ sign) - sign;
+            }
+        }
+        
+        /**
+         * dst[i] = src[i] % divisor; dst may be src
+         */
+        public void remainder(int[] src, int[] dst) {
+            int magic = this.magic;
+            int shift = this.shift;
+            int sign = this.divisorSign;
+            int divisor = this.divisor;
+            for (int i = 0; i < src.length; i++) {
+                int n = src[i];
+                int q = ((n + (int) (((long) magic * n) >> 32)) >> shift) - (n >> 31);
+                dst[i] = n - ((q ^ sign) - sign) * divisor;
+            }
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("n / %d = ((n + mulhi(%d, n)) >> %d) - (n >> 31)%s",
+                divisor, magic, shift, divisor < 0 ? ", negated" : "");
+        }
+    }
+    
+    /**
+     * Precomputed divider for longs; same method as IntDivider with N = 64,
+     * using Math.multiplyHigh for the upper half of the 128-bit product.
+     * Results equal n / d and n % d for every long n and every d != 0.
+     */
+    public static final class LongDivider {
+        private final long divisor;
+        private final long magic;
+        private final int shift;
+        private final long divisorSign;
+        
+        /**
+         * @throws ArithmeticException if divisor is zero (as n / 0 would)
+         */
+        public LongDivider(long divisor) {
+            if (divisor == 0) {
+                throw new ArithmeticException("/ by zero");
+            }
+            // |d| as unsigned (Long.MIN_VALUE stays 2⁶³)
+            long absDivisor = divisor < 0 ? -divisor : divisor;
+            int l = Math.max(64 - Long.numberOfLeadingZeros(absDivisor - 1), 1);
+            
+            // m' = 1 + ⌊2^(63+l) / |d|⌋ - 2⁶⁴, computed once with BigInteger
+            BigInteger m = BigInteger.ONE.shiftLeft(63 + l)
+                .divide(new BigInteger(Long.toUnsignedString(absDivisor)))
+                .add(BigInteger.ONE)
+                .subtract(BigInteger.ONE.shiftLeft(64));
+            
+            this.divisor = divisor;
+            this.magic = m.longValue();
+            this.shift = l - 1;
+            this.divisorSign = divisor >> 63;
+        }
+        
+        public long divisor() {
+            return divisor;
+        }
+        
+        /**
+         * Method to compute n / divisor (truncated, like Java's /)
+         */
+        public long divide(long n) {
+            long q = ((n + Math.multiplyHigh(magic, n)) >> shift) - (n >> 63);
+            return (q ^ divisorSign) - divisorSign;
+        }
+        
+        /**
+         * Method to compute n % divisor (sign of n, like Java's %)
+         */
+        public long remainder(long n) {
+            return n - divide(n) * divisor;
+        }
+        
+        /**
+         * dst[i] = src[i] / divisor; dst may be src
+         */
+        public void divide(long[] src, long[] dst) {
+            long magic = this.magic;
+            int shift = this.shift;
+            long sign = this.divisorSign;
+            for (int i = 0; i < src.length; i++) {
+                long n = src[i];
+                long q = ((n + Math.multiplyHigh(magic, n)) >> shift) - (n >> 63);
+                dst[i] = (q ^ sign) - sign;
+            }
+        }
+        
+        /**
+         * dst[i] = src[i] % divisor; dst may be src
+         */
+        public void remainder(long[] src, long[] dst) {
+            long magic = this.magic;
+            int shift = this.shift;
+            long sign = this.divisorSign;
+            long divisor = this.divisor;
+            for (int i = 0; i < src.length; i++) {
+                long n = src[i];
+                long q = ((n + Math.multiplyHigh(magic, n)) >> shift) - (n >> 63);
+                dst[i] = n - ((q ^ sign) - sign) * divisor;
+            }
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("n / %d = ((n + mulhi(%d, n)) >> %d) - (n >> 63)%s",
+                divisor, magic, shift, divisor < 0 ? ", negated" : "");
+        }
+    }
+    
+    /**
+     * Example: division by a fixed divisor without the division instruction
+     */
+    public static void exampleFastDivision() {
+        System.out.println("=== FAST DIVISION BY A FIXED DIVISOR (IntDivider) ===\n");
+        
+        System.out.println("Dividing many numbers by the same d? Precompute a 'magic' multiplier once:");
+        for (int d : new int[] {3, 7, -5, 10}) {
+            System.out.println("  " + new IntDivider(d));
+        }
+        
+        IntDivider byThree = new IntDivider(3);
+        int[] values = {15, 23, -23, 7, -7, Integer.MIN_VALUE};
+        System.out.println("\n     n        n / 3   divider    n % 3   divider");
+        for (int n : values) {
+            System.out.printf("%12d %8d %9d %8d %9d%n", n, n / 3, byThree.divide(n), n % 3, byThree.remainder(n));
+        }
+        System.out.println("\nSame results as / and %, including negative numbers.\n");
+    }
+    
     /**
      * (C) CODE SNIPPET ANALYSIS AND CORRECTIONS
      */
@@ -290,10 +751,501 @@ public class Q8_OperatorsAndArithmetic {
         System.out.println("\nFinal Output: Total accumulated Sum = " + sum + "\n");
     }
     
+    /**
+     * Benchmark mode: java Q8_OperatorsAndArithmetic --benchmark [size] [--markdown]
+     * (--benchmark-operators runs only the operator tables)
+     */
+    public static void runBenchmarks(int size, boolean markdown) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.printf("    Q8 BENCHMARKS (%,d elements, best of 5 runs)%n", size);
+        System.out.println("=".repeat(70));
+        
+        benchmarkBitToolkit(size);
+        benchmarkDivision(size);
+        benchmarkOperators(markdown);
+    }
+    
+    /**
+     * Benchmark: the operator claims of parts (A) and (B), measured.
+     * Each pattern runs over the same cache-resident random data with a
+     * fixed seed; every variant gets OPERATOR_WARMUP_RUNS untimed runs
+     * and the table reports the median and minimum of
+     * OPERATOR_MEASURED_RUNS timed runs in ns per operation, relative to
+     * the first variant of its group. JVM, OS and core count are printed
+     * with the table so results can be compared across machines.
+     * 
+     * @param markdown print the tables as Markdown instead of plain text
+     */
+    public static void benchmarkOperators(boolean markdown) {
+        int n = 1 << 16;
+        Random random = new Random(48);
+        
+        int[] values = new int[n];          // any int, half negative
+        int[] positives = new int[n];       // 0 ... 2³¹-1
+        boolean[] mostlyTrue = new boolean[n];
+        boolean[] coinFlips = new boolean[n];
+        boolean[] coinFlips2 = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt();
+            positives[i] = random.nextInt() >>> 1;
+            mostlyTrue[i] = random.nextInt(100) < 95;
+            coinFlips[i] = random.nextBoolean();
+            coinFlips2[i] = random.nextBoolean();
+        }
+        int divisor = 8;      // runtime value: the JIT cannot fold it
+        int mask = divisor - 1;
+        
+        // Each lambda is one pass over the n elements; the table repeats and times it
+        OperatorBenchmarkTable table = new OperatorBenchmarkTable(n, 128);
+        
+        // (ii) || : short-circuit skips the right side, eager | always evaluates it
+        table.group("(ii) OR: left side true 95%, right side costly");
+        table.measure("a || costly(x)", () -> {
+            long hits = 0;
+            for (int i = 0; i < n; i++) hits += mostlyTrue[i] || costlyCheck(values[i]) ? 1 : 0;
+            return hits;
+        });
+        table.measure("a | costly(x)", () -> {
+            long hits = 0;
+            for (int i = 0; i < n; i++) hits += mostlyTrue[i] | costlyCheck(values[i]) ? 1 : 0;
+            return hits;
+        });
+        
+        table.group("(ii) OR: both sides cheap, random 50/50");
+        table.measure("a || b", () -> {
+            long hits = 0;
+            for (int i = 0; i < n; i++) hits += coinFlips[i] || coinFlips2[i] ? 1 : 0;
+            return hits;
+        });
+        table.measure("a | b", () -> {
+            long hits = 0;
+            for (int i = 0; i < n; i++) hits += coinFlips[i] | coinFlips2[i] ? 1 : 0;
+            return hits;
+        });
+        
+        // (iii) && : same trade-off with the left side mostly false
+        table.group("(iii) AND: left side false 95%, right side costly");
+        table.measure("!a && costly(x)", () -> {
+            long hits = 0;
+            for (int i = 0; i < n; i++) hits += !mostlyTrue[i] && costlyCheck(values[i]) ? 1 : 0;
+            return hits;
+        });
+        table.measure("!a & costly(x)", () -> {
+            long hits = 0;
+            for (int i = 0; i < n; i++) hits += !mostlyTrue[i] & costlyCheck(values[i]) ? 1 : 0;
+            return hits;
+        });
+        
+        table.group("(iii) AND: both sides cheap, random 50/50");
+        table.measure("a && b", () -> {
+            long hits = 0;
+            for (int i = 0; i < n; i++) hits += coinFlips[i] && coinFlips2[i] ? 1 : 0;
+            return hits;
+        });
+        table.measure("a & b", () -> {
+            long hits = 0;
+            for (int i = 0; i < n; i++) hits += coinFlips[i] & coinFlips2[i] ? 1 : 0;
+            return hits;
+        });
+        
+        // (B) integer division vs. shift (x >> 3 rounds down, x / 8 toward zero)
+        table.group("(B) Integer division by 8 (signed values)");
+        table.measure("x / d  (d = 8 at runtime)", () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) sum += values[i] / divisor;
+            return sum;
+        });
+        table.measure("x / 8  (constant)", () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) sum += values[i] / 8;
+            return sum;
+        });
+        table.measure("x >> 3 (floor, differs if x < 0)", () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) sum += values[i] >> 3;
+            return sum;
+        });
+        table.measure("(x + (x >> 31 >>> 29)) >> 3", () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) sum += (values[i] + (values[i] >> 31 >>> 29)) >> 3;
+            return sum;
+        });
+        
+        // (B) modulo vs. mask (equal only for x ≥ 0 and a power-of-two modulus)
+        table.group("(B) Modulo by 8 (non-negative values)");
+        table.measure("x % d  (d = 8 at runtime)", () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) sum += positives[i] % divisor;
+            return sum;
+        });
+        table.measure("x % 8  (constant)", () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) sum += positives[i] % 8;
+            return sum;
+        });
+        table.measure("x & m  (m = 7 at runtime)", () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) sum += positives[i] & mask;
+            return sum;
+        });
+        
+        table.print(markdown);
+    }
+    
+    /**
+     * Helper method: a deliberately costly boolean check (four rounds of
+     * multiply/xor-shift mixing) for the short-circuit benchmarks
+     */
+    private static boolean costlyCheck(int x) {
+        long h = x;
+        for (int round = 0; round < 4; round++) {
+            h *= 0x9E3779B97F4A7C15L;
+            h ^= h >>> 29;
+        }
+        return (h & 1) == 0;
+    }
+    
+    /**
+     * Collects and prints the operator benchmark results. Rows are grouped;
+     * the first row of a group is the baseline for the "relative" column.
+     * 
+     * A row is a lambda for one pass over the data, not for one element:
+     * a per-element lambda called from this shared loop would be a
+     * megamorphic call costing more than the operators being measured.
+     */
+    private static final class OperatorBenchmarkTable {
+        // Untimed runs per variant (lets the JIT compile the loop first)
+        private static final int OPERATOR_WARMUP_RUNS = 5;
+        
+        // Timed runs per variant; the median is reported
+        private static final int OPERATOR_MEASURED_RUNS = 11;
+        
+        private final int passesPerRun;
+        private final long opsPerRun;
+        private final List<String> groups = new ArrayList<>();
+        private final List<Integer> rowGroups = new ArrayList<>();
+        private final List<String> rowNames = new ArrayList<>();
+        private final List<double[]> rowSamples = new ArrayList<>();
+        
+        OperatorBenchmarkTable(int elementsPerPass, int passesPerRun) {
+            this.passesPerRun = passesPerRun;
+            this.opsPerRun = (long) elementsPerPass * passesPerRun;
+        }
+        
+        void group(String title) {
+            groups.add(title);
+        }
+        
+        /**
+         * Method to time one variant; samples are ns per operation, sorted
+         * 
+         * @param pass one pass over the data, returning a value that depends on every element
+         */
+        void measure(String name, LongSupplier pass) {
+            for (int run = 0; run < OPERATOR_WARMUP_RUNS; run++) {
+                benchmarkSink += runPasses(pass);
+            }
+            double[] samples = new double[OPERATOR_MEASURED_RUNS];
+            for (int run = 0; run < OPERATOR_MEASURED_RUNS; run++) {
+                long start = System.nanoTime();
+                benchmarkSink += runPasses(pass);
+                samples[run] = (System.nanoTime() - start) / (double) opsPerRun;
+            }
+            Arrays.sort(samples);
+            rowGroups.add(groups.size() - 1);
+            rowNames.add(name);
+            rowSamples.add(samples);
+        }
+        
+        private long runPasses(LongSupplier pass) {
+            long total = 0;
+            for (int p = 0; p < passesPerRun; p++) {
+                total += pass.getAsLong();
+            }
+            return total;
+        }
+        
+        void print(boolean markdown) {
+            String environment = String.format("Java %s (%s), %s %s, %d cores; %,d ops per run, %d warm-up + %d timed runs",
+                System.getProperty("java.version"), System.getProperty("java.vm.name"),
+                System.getProperty("os.name"), System.getProperty("os.arch"),
+                Runtime.getRuntime().availableProcessors(), opsPerRun, OPERATOR_WARMUP_RUNS, OPERATOR_MEASURED_RUNS);
+            
+            System.out.println("\n⏱ Operator patterns (ns per operation, median of timed runs)");
+            System.out.println(environment);
+            
+            for (int g = 0; g < groups.size(); g++) {
+                double baseline = Double.NaN;
+                System.out.println();
+                if (markdown) {
+                    System.out.println("**" + groups.get(g) + "**\n");
+                    System.out.println("| pattern | median ns/op | min ns/op | relative |");
+                    System.out.println("|---|---:|---:|---:|");
+                } else {
+                    System.out.println(groups.get(g));
+                    System.out.printf("  %-34s %14s %12s %10s%n", "pattern", "median ns/op", "min ns/op", "relative");
+                    System.out.println("  " + "-".repeat(73));
+                }
+                
+                for (int r = 0; r < rowNames.size(); r++) {
+                    if (rowGroups.get(r) != g) {
+                        continue;
+                    }
+                    double[] samples = rowSamples.get(r);
+                    double median = samples[samples.length / 2];
+                    if (Double.isNaN(baseline)) {
+                        baseline = median;
+                    }
+                    if (markdown) {
+                        // "|" inside a cell must be escaped, even in a code span
+                        System.out.printf("| `%s` | %.3f | %.3f | %.2fx |%n", rowNames.get(r).replace("|", "\\|"), median, samples[0], median / baseline);
+                    } else {
+                        System.out.printf("  %-34s %14.3f %12.3f %9.2fx%n", rowNames.get(r), median, samples[0], median / baseline);
+                    }
+                }
+            }
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Benchmark: Bits on long[] words vs. the same operations on boolean[]
+     */
+    private static void benchmarkBitToolkit(int bits) {
+        Random random = new Random(8);
+        boolean[] a = new boolean[bits];
+        boolean[] b = new boolean[bits];
+        for (int i = 0; i < bits; i++) {
+            a[i] = random.nextBoolean();
+            b[i] = random.nextInt(4) == 0;
+        }
+        boolean[] flags = new boolean[bits];
+        long[] aWords = Bits.pack(a);
+        long[] bWords = Bits.pack(b);
+        long[] words = new long[aWords.length];
+        
+        System.out.printf("%n⏱ Bit sets of %,d bits: boolean[] (%,d bytes) vs long[] (%,d bytes)%n",
+            bits, bits, 8L * aWords.length);
+        System.out.printf("%-20s %14s %14s %10s%n", "operation", "boolean[] ms", "long[] ms", "speedup");
+        System.out.println("-".repeat(62));
+        
+        printSpeedupRow("popcount",
+            bestOfMillis(() -> {
+                long count = 0;
+                for (boolean flag : a) {
+                    count += flag ? 1 : 0;
+                }
+                return count;
+            }),
+            bestOfMillis(() -> Bits.popcount(aWords)));
+        
+        printSpeedupRow("AND",
+            bestOfMillis(() -> {
+                for (int i = 0; i < bits; i++) {
+                    flags[i] = a[i] & b[i];
+                }
+                return flags[bits - 1] ? 1 : 0;
+            }),
+            bestOfMillis(() -> {
+                Bits.and(aWords, bWords, words);
+                return words[0];
+            }));
+        
+        printSpeedupRow("XOR",
+            bestOfMillis(() -> {
+                for (int i = 0; i < bits; i++) {
+                    flags[i] = a[i] ^ b[i];
+                }
+                return flags[bits - 1] ? 1 : 0;
+            }),
+            bestOfMillis(() -> {
+                Bits.xor(aWords, bWords, words);
+                return words[0];
+            }));
+        
+        printSpeedupRow("ANDNOT + count",
+            bestOfMillis(() -> {
+                long count = 0;
+                for (int i = 0; i < bits; i++) {
+                    count += a[i] && !b[i] ? 1 : 0;
+                }
+                return count;
+            }),
+            bestOfMillis(() -> {
+                Bits.andNot(aWords, bWords, words);
+                return Bits.popcount(words);
+            }));
+        
+        printSpeedupRow("Hamming distance",
+            bestOfMillis(() -> {
+                long count = 0;
+                for (int i = 0; i < bits; i++) {
+                    count += a[i] != b[i] ? 1 : 0;
+                }
+                return count;
+            }),
+            bestOfMillis(() -> Bits.xorCount(aWords, bWords)));
+        
+        printSpeedupRow("parity",
+            bestOfMillis(() -> {
+                boolean odd = false;
+                for (boolean flag : a) {
+                    odd ^= flag;
+                }
+                return odd ? 1 : 0;
+            }),
+            bestOfMillis(() -> Bits.parity(aWords)));
+        
+        // Gray code round trip: shift-cascade decode vs. bit-by-bit decode
+        int count = Math.min(bits, 1 << 24);
+        printSpeedupRow("Gray decode (loop)",
+            bestOfMillis(() -> {
+                long sum = 0;
+                for (int i = 0; i < count; i++) {
+                    int g = Bits.toGray(i);
+                    int x = 0;
+                    for (int bit = 31; bit >= 0; bit--) {
+                        x |= (((x >>> (bit + 1)) ^ (g >>> bit)) & 1) << bit;
+                    }
+                    sum += x;
+                }
+                return sum;
+            }),
+            bestOfMillis(() -> {
+                long sum = 0;
+                for (int i = 0; i < count; i++) {
+                    sum += Bits.fromGray(Bits.toGray(i));
+                }
+                return sum;
+            }));
+    }
+    
+    /**
+     * Benchmark: / and % by a runtime divisor vs. IntDivider / LongDivider
+     */
+    private static void benchmarkDivision(int size) {
+        // A cache-resident block divided repeatedly, so the loops measure
+        // the division itself rather than memory bandwidth
+        int n = 1 << 14;
+        int passes = Math.max(size / n, 1);
+        Random random = new Random(9);
+        int[] ints = new int[n];
+        long[] longs = new long[n];
+        for (int i = 0; i < n; i++) {
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+        }
+        int[] intOut = new int[n];
+        long[] longOut = new long[n];
+        
+        System.out.printf("%n⏱ Division by a runtime divisor (%,d elements: %,d passes over %,d)%n", (long) passes * n, passes, n);
+        System.out.printf("%-20s %14s %14s %10s%n", "operation", "plain ms", "divider ms", "speedup");
+        System.out.println("-".repeat(62));
+        
+        for (int d : new int[] {7, -1000, 1 << 10}) {
+            IntDivider divider = new IntDivider(d);
+            printSpeedupRow("int / " + d,
+                bestOfMillis(() -> {
+                    for (int pass = 0; pass < passes; pass++) {
+                        for (int i = 0; i < n; i++) {
+                            intOut[i] = ints[i] / d;
+                        }
+                    }
+                    return intOut[0];
+                }),
+                bestOfMillis(() -> {
+                    for (int pass = 0; pass < passes; pass++) {
+                        divider.divide(ints, intOut);
+                    }
+                    return intOut[0];
+                }));
+            printSpeedupRow("int % " + d,
+                bestOfMillis(() -> {
+                    for (int pass = 0; pass < passes; pass++) {
+                        for (int i = 0; i < n; i++) {
+                            intOut[i] = ints[i] % d;
+                        }
+                    }
+                    return intOut[0];
+                }),
+                bestOfMillis(() -> {
+                    for (int pass = 0; pass < passes; pass++) {
+                        divider.remainder(ints, intOut);
+                    }
+                    return intOut[0];
+                }));
+        }
+        
+        for (long d : new long[] {7, 1_000_000_007L}) {
+            LongDivider divider = new LongDivider(d);
+            printSpeedupRow("long / " + d,
+                bestOfMillis(() -> {
+                    for (int pass = 0; pass < passes; pass++) {
+                        for (int i = 0; i < n; i++) {
+                            longOut[i] = longs[i] / d;
+                        }
+                    }
+                    return longOut[0];
+                }),
+                bestOfMillis(() -> {
+                    for (int pass = 0; pass < passes; pass++) {
+                        divider.divide(longs, longOut);
+                    }
+                    return longOut[0];
+                }));
+            printSpeedupRow("long % " + d,
+                bestOfMillis(() -> {
+                    for (int pass = 0; pass < passes; pass++) {
+                        for (int i = 0; i < n; i++) {
+                            longOut[i] = longs[i] % d;
+                        }
+                    }
+                    return longOut[0];
+                }),
+                bestOfMillis(() -> {
+                    for (int pass = 0; pass < passes; pass++) {
+                        divider.remainder(longs, longOut);
+                    }
+                    return longOut[0];
+                }));
+        }
+    }
+    
+    /**
+     * Helper method: best wall time of 5 runs in milliseconds
+     */
+    private static double bestOfMillis(LongSupplier task) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            benchmarkSink += task.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+    
+    /**
+     * Helper method to print one baseline-vs-optimized benchmark line
+     */
+    private static void printSpeedupRow(String label, double baselineMillis, double millis) {
+        System.out.printf("%-20s %14.2f %14.2f %9.1fx%n", label, baselineMillis, millis, baselineMillis / millis);
+    }
+    
     /**
      * Main method demonstrating all concepts
      */
     public static void main(String[] args) {
+        boolean markdown = Arrays.asList(args).contains("--markdown");
+        if (args.length > 0 && args[0].equals("--benchmark")) {
+            boolean sized = args.length > 1 && !args[1].startsWith("--");
+            runBenchmarks(sized ? Integer.parseInt(args[1]) : 1 << 26, markdown);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--benchmark-operators")) {
+            benchmarkOperators(markdown);
+            return;
+        }
+        
         System.out.println("\n" + "=".repeat(70));
         System.out.println("       Q8: OPERATORS, ARITHMETIC OPERATIONS & CODE ANALYSIS");
         System.out.println("=".repeat(70));
@@ -307,6 +1259,7 @@ public class Q8_OperatorsAndArithmetic {
         exampleLogicalOR();
         exampleLogicalAND();
         exampleBitwiseXOR();
+        exampleBitToolkit();
         exampleTabCharacter();
         
         // Part (B): Arithmetic Operations
@@ -317,6 +1270,7 @@ public class Q8_OperatorsAndArithmetic {
         realDivision();
         integerDivision();
         moduloDivision();
+        exampleFastDivision();
         
         // Part (C): Code Analysis
         System.out.println("=".repeat(70) + "\n");
@@ -2,6 +2,9 @@ import java.util.Scanner;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Q9: For Loops and Mean Calculation
@@ -12,12 +15,23 @@ import java.util.Collections;
  * - Data history tracking
  * - Array visualization
  * - Performance benchmarking
+ * - One-pass, mergeable statistics (RunningStatistics, Welford's algorithm)
+ * - Median and quantiles by selection instead of sorting (see Selection)
  */
 public class Q9_ForLoopsAndMean {
     
     // Data history
     private static List<double[]> dataHistory = new ArrayList<>();
     
+    // Arrays shorter than this are summarized on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+    
+    // Number of elements each fork/join leaf task summarizes sequentially
+    private static final int PARALLEL_LEAF_SIZE = 1 << 16;
+    
+    // Holds benchmark results so the JIT cannot discard the measured work
+    private static volatile double benchmarkSink;
+    
     /**
      * (A) FOR LOOP TYPES WITH EXAMPLES
      */
@@ -155,34 +169,62 @@ public class Q9_ForLoopsAndMean {
     
     /**
      * Method to calculate median of array elements
+     * (selection in O(n) on a copy instead of sorting it)
      */
     public static double calculateMedian(double[] arr) {
         if (arr == null || arr.length == 0) return 0;
         
-        double[] sorted = arr.clone();
-        java.util.Arrays.sort(sorted);
+        return Selection.median(arr);
+    }
+    
+    /**
+     * Method to calculate the p-quantile (0 ≤ p ≤ 1) of array elements,
+     * interpolating between neighbouring values; p = 0.5 is the median
+     */
+    public static double calculateQuantile(double[] arr, double p) {
+        if (arr == null || arr.length == 0) return 0;
+        
+        return Selection.quantile(arr, p);
+    }
+    
+    /**
+     * Method to calculate several quantiles with one partitioning pass
+     * (e.g. calculateQuantiles(arr, 0.25, 0.5, 0.75) for the quartiles)
+     */
+    public static double[] calculateQuantiles(double[] arr, double... probabilities) {
+        if (arr == null || arr.length == 0) return new double[probabilities.length];
         
-        if (sorted.length % 2 == 0) {
-            return (sorted[sorted.length/2 - 1] + sorted[sorted.length/2]) / 2.0;
-        } else {
-            return sorted[sorted.length/2];
-        }
+        return Selection.quantiles(arr, probabilities);
     }
     
     /**
-     * Method to calculate standard deviation
+     * Method to calculate standard deviation (sample, n - 1)
      */
     public static double calculateStdDeviation(double[] arr) {
         if (arr == null || arr.length < 2) return 0;
         
-        double mean = calculateMean(arr);
-        double sumSquaredDiff = 0;
-        
-        for (double value : arr) {
-            sumSquaredDiff += Math.pow(value - mean, 2);
+        return RunningStatistics.of(arr).getStandardDeviation();
+    }
+    
+    /**
+     * Method to summarize an array in one pass
+     * (count, sum, min, max, mean and variance together)
+     */
+    public static RunningStatistics summarize(double[] arr) {
+        return RunningStatistics.of(arr);
+    }
+    
+    /**
+     * Method to summarize an array on the common ForkJoinPool. Each leaf
+     * summarizes a chunk and the partial results are merged, so the
+     * figures agree with summarize up to rounding; arrays below
+     * PARALLEL_THRESHOLD run sequentially.
+     */
+    public static RunningStatistics summarizeParallel(double[] arr) {
+        if (arr.length < PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            return RunningStatistics.of(arr);
         }
-        
-        return Math.sqrt(sumSquaredDiff / (arr.length - 1));
+        return ForkJoinPool.commonPool().invoke(new StatisticsTask(arr, 0, arr.length));
     }
     
     /**
@@ -191,18 +233,13 @@ public class Q9_ForLoopsAndMean {
     public static void displayStatistics(double[] arr) {
         if (arr == null || arr.length == 0) return;
         
-        double mean = calculateMean(arr);
+        RunningStatistics stats = summarize(arr);
+        double mean = stats.getMean();
         double median = calculateMedian(arr);
-        double stdDev = calculateStdDeviation(arr);
-        double min = arr[0];
-        double max = arr[0];
-        double sum = 0;
-        
-        for (double value : arr) {
-            sum += value;
-            if (value < min) min = value;
-            if (value > max) max = value;
-        }
+        double stdDev = stats.getStandardDeviation();
+        double min = stats.getMin();
+        double max = stats.getMax();
+        double sum = stats.getSum();
         
         System.out.println("\n" + "=".repeat(70));
         System.out.println("                    DETAILED STATISTICS");
@@ -218,6 +255,273 @@ public class Q9_ForLoopsAndMean {
         System.out.println("=".repeat(70));
     }
     
+    /**
+     * One-pass accumulator for count, sum, min, max, mean and variance.
+     * The variance uses Welford's update (add) and block-wise exact
+     * moments (addAll), which stay accurate when the mean is large
+     * compared with the spread (unlike Σx² - n·mean²).
+     * Accumulators over separate chunks can be merged (Chan et al.), so
+     * parallel and streaming callers get the same figures.
+     * 
+     * getMean returns sum / count, the same value calculateMean computes.
+     */
+    public static final class RunningStatistics {
+        // Values per addAll block (8 KB of doubles, stays in L1 cache)
+        private static final int BLOCK_SIZE = 1024;
+        
+        private long count;
+        private double sum;
+        private double min;
+        private double max;
+        private double mean;    // Welford running mean
+        private double m2;      // Σ(x - mean)² so far
+        
+        /**
+         * Method to summarize a whole array
+         */
+        public static RunningStatistics of(double[] values) {
+            RunningStatistics stats = new RunningStatistics();
+            stats.addAll(values, 0, values.length);
+            return stats;
+        }
+        
+        /**
+         * Method to add one value
+         */
+        public void add(double value) {
+            if (count == 0) {
+                min = value;
+                max = value;
+            } else {
+                if (value < min) min = value;
+                if (value > max) max = value;
+            }
+            count++;
+            sum += value;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+        
+        /**
+         * Method to add values[from] ... values[to - 1]. Works in blocks of
+         * BLOCK_SIZE: count/sum/min/max in one sweep, then the block's Σ(x - mean)²
+         * while the block is still in L1 cache, then a merge. This avoids
+         * Welford's division per value; the sum is still added left to right,
+         * so getSum and getMean match a plain loop exactly.
+         */
+        public void addAll(double[] values, int from, int to) {
+            for (int start = from; start < to; start += BLOCK_SIZE) {
+                int end = Math.min(to, start + BLOCK_SIZE);
+                double blockSum = 0;
+                double blockMin = values[start];
+                double blockMax = values[start];
+                double runningSum = sum;
+                for (int i = start; i < end; i++) {
+                    double value = values[i];
+                    blockSum += value;
+                    runningSum += value;
+                    if (value < blockMin) blockMin = value;
+                    if (value > blockMax) blockMax = value;
+                }
+                int blockCount = end - start;
+                double blockMean = blockSum / blockCount;
+                double blockM2 = 0;
+                for (int i = start; i < end; i++) {
+                    double deviation = values[i] - blockMean;
+                    blockM2 += deviation * deviation;
+                }
+                mergeMoments(blockCount, blockMin, blockMax, blockMean, blockM2);
+                sum = runningSum;
+            }
+        }
+        
+        /**
+         * Method to fold another accumulator into this one
+         * (the result is as if every value had been added here)
+         */
+        public void merge(RunningStatistics other) {
+            double otherSum = other.sum;
+            mergeMoments(other.count, other.min, other.max, other.mean, other.m2);
+            sum += otherSum;
+        }
+        
+        /**
+         * Helper method: combine count/min/max/mean/m2 with those of
+         * another group of values (the caller updates sum)
+         */
+        private void mergeMoments(long otherCount, double otherMin, double otherMax,
+                                  double otherMean, double otherM2) {
+            if (otherCount == 0) {
+                return;
+            }
+            if (count == 0) {
+                count = otherCount;
+                min = otherMin;
+                max = otherMax;
+                mean = otherMean;
+                m2 = otherM2;
+                return;
+            }
+            if (otherMin < min) min = otherMin;
+            if (otherMax > max) max = otherMax;
+            long total = count + otherCount;
+            double delta = otherMean - mean;
+            mean += delta * otherCount / total;
+            m2 += otherM2 + delta * delta * ((double) count * otherCount / total);
+            count = total;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public double getSum() {
+            return sum;
+        }
+        
+        public double getMin() {
+            return min;
+        }
+        
+        public double getMax() {
+            return max;
+        }
+        
+        public double getMean() {
+            return count == 0 ? 0 : sum / count;
+        }
+        
+        /**
+         * Sample variance (n - 1); 0 for fewer than two values
+         */
+        public double getVariance() {
+            return count < 2 ? 0 : m2 / (count - 1);
+        }
+        
+        /**
+         * Sample standard deviation, as calculateStdDeviation
+         */
+        public double getStandardDeviation() {
+            return Math.sqrt(getVariance());
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("count=%d, sum=%.4f, min=%.4f, max=%.4f, mean=%.4f, stdDev=%.4f",
+                count, sum, min, max, getMean(), getStandardDeviation());
+        }
+    }
+    
+    /**
+     * Fork/join task behind summarizeParallel: summarizes arr[from, to)
+     */
+    private static final class StatisticsTask extends RecursiveTask<RunningStatistics> {
+        private static final long serialVersionUID = 1L;
+        
+        private final double[] arr;
+        private final int from;
+        private final int to;
+        
+        StatisticsTask(double[] arr, int from, int to) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected RunningStatistics compute() {
+            if (to - from <= PARALLEL_LEAF_SIZE) {
+                RunningStatistics stats = new RunningStatistics();
+                stats.addAll(arr, from, to);
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            StatisticsTask left = new StatisticsTask(arr, from, mid);
+            left.fork();
+            RunningStatistics right = new StatisticsTask(arr, mid, to).compute();
+            RunningStatistics stats = left.join();
+            stats.merge(right);
+            return stats;
+        }
+    }
+    
+    /**
+     * Benchmark mode: java Q9_ForLoopsAndMean --benchmark [size]
+     * Compares the separate passes displayStatistics used to make with
+     * one RunningStatistics pass (the median is left out of both; see
+     * java Selection --benchmark for median and quantile timings).
+     */
+    public static void runBenchmark(int size) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.printf("    Q9 STATISTICS BENCHMARK (%,d values, best of 5 runs)%n", size);
+        System.out.println("=".repeat(70));
+        
+        Random random = new Random(9);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 1e6 + random.nextGaussian() * 25;
+        }
+        
+        System.out.printf("%n%-40s %12s %12s%n", "method", "best ms", "M values/s");
+        System.out.println("-".repeat(66));
+        
+        for (int variant = 0; variant < 3; variant++) {
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < 5; run++) {
+                long start = System.nanoTime();
+                double result;
+                switch (variant) {
+                    case 0: result = separatePasses(values); break;
+                    case 1: result = summarize(values).getStandardDeviation(); break;
+                    default: result = summarizeParallel(values).getStandardDeviation(); break;
+                }
+                best = Math.min(best, System.nanoTime() - start);
+                benchmarkSink += result;
+            }
+            String label = variant == 0 ? "mean + stdDev (pow) + min/max/sum"
+                : variant == 1 ? "RunningStatistics (one pass)" : "summarizeParallel";
+            System.out.printf("%-40s %12.2f %12.1f%n", label, best / 1e6, size / (best / 1e3));
+        }
+        
+        RunningStatistics stats = summarize(values);
+        RunningStatistics parallel = summarizeParallel(values);
+        System.out.println("\nSequential: " + stats);
+        System.out.println("Parallel:   " + parallel);
+        System.out.printf("Two-pass stdDev %.12f, Welford %.12f%n",
+            twoPassStdDeviation(values), stats.getStandardDeviation());
+        System.out.println();
+    }
+    
+    /**
+     * Helper method: the four passes displayStatistics made before RunningStatistics
+     */
+    private static double separatePasses(double[] values) {
+        double mean = calculateMean(values);
+        double stdDev = twoPassStdDeviation(values);
+        double min = values[0];
+        double max = values[0];
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        return mean + stdDev + min + max + sum;
+    }
+    
+    /**
+     * Helper method: the original calculateStdDeviation (mean pass, then Math.pow pass)
+     */
+    private static double twoPassStdDeviation(double[] values) {
+        double mean = calculateMean(values);
+        double sumSquaredDiff = 0;
+        for (double value : values) {
+            sumSquaredDiff += Math.pow(value - mean, 2);
+        }
+        return Math.sqrt(sumSquaredDiff / (values.length - 1));
+    }
+    
     /**
      * Method to display array elements
      */
@@ -234,6 +538,11 @@ public class Q9_ForLoopsAndMean {
      * Main method with interactive mean calculation
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--benchmark")) {
+            runBenchmark(args.length > 1 ? Integer.parseInt(args[1]) : 50_000_000);
+            return;
+        }
+        
         Scanner scanner = new Scanner(System.in);
         
         System.out.println("\n" + "=".repeat(70));
@@ -0,0 +1,694 @@
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Selection (median and quantiles without sorting)
+ * Used by Q9_ForLoopsAndMean and NMSRainfall, which used to clone and
+ * fully sort an array just to read one or two elements of it.
+ * 
+ * Introselect: quickselect with a three-way partition and sampled pivots,
+ * O(n) on average; if a range fails to shrink within 2·log₂(n) rounds the
+ * pivots switch to median of medians, so the worst case is O(n) as well
+ * (instead of the O(n²) of plain quickselect).
+ * 
+ * median / quantile / quantiles copy the input into one scratch array and
+ * leave the caller's array untouched; select and medianInPlace reorder
+ * the array they are given.
+ * 
+ * double results follow the order of Arrays.sort: NaNs sort after every
+ * other value and -0.0 before 0.0. NaNs are moved to the end of the range
+ * before partitioning, and a zero result gets the sign that its rank has
+ * in sorted order.
+ */
+public final class Selection {
+    
+    // Ranges this short are finished by insertion sort
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    
+    // Ranges this long take a 9-sample pivot instead of a 3-sample one
+    private static final int NINTHER_THRESHOLD = 256;
+    
+    // Probabilities of the multi-quantile benchmark (P10, quartiles, P90)
+    private static final double[] BENCHMARK_PROBABILITIES = {0.10, 0.25, 0.50, 0.75, 0.90};
+    
+    // Holds benchmark results so the JIT cannot discard the measured work
+    private static volatile double benchmarkSink;
+    
+    private Selection() {
+    }
+    
+    /**
+     * Method to find the k-th smallest value (k = 0 is the minimum).
+     * Reorders values[from, to) so that values[k] holds the k-th smallest,
+     * everything before it is ≤ and everything after it is ≥, and any
+     * NaNs are at the end.
+     * 
+     * @return the value Arrays.sort would put at index k (NaN if k falls
+     *         among the NaNs; a zero carries the sign of its sorted rank)
+     */
+    public static double select(double[] values, int from, int to, int k) {
+        checkRange(values.length, from, to, k);
+        int end = moveNaNsToEnd(values, from, to);
+        if (k >= end) {
+            return values[k];
+        }
+        introSelect(values, from, end - 1, k, depthLimit(end - from));
+        return sortedZero(values, from, to, k, values[k]);
+    }
+    
+    /**
+     * Method to find the median without modifying the array
+     * (mean of the two middle values when the length is even)
+     */
+    public static double median(double[] values) {
+        return medianInPlace(values.clone());
+    }
+    
+    /**
+     * Method to find the median, reordering the array instead of copying it
+     */
+    public static double medianInPlace(double[] values) {
+        int n = values.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Median of an empty array");
+        }
+        int k = n / 2;
+        double upper = select(values, 0, n, k);
+        if (n % 2 != 0 || Double.isNaN(upper)) {
+            return upper;
+        }
+        // After select, the lower middle value is the largest of values[0, k)
+        return (sortedZero(values, 0, n, k - 1, max(values, 0, k)) + upper) / 2.0;
+    }
+    
+    /**
+     * Method to find the p-quantile without modifying the array, with linear
+     * interpolation between neighbouring ranks (h = (n - 1)·p, as in
+     * spreadsheet PERCENTILE functions); p = 0.5 gives the median
+     */
+    public static double quantile(double[] values, double p) {
+        checkProbability(p);
+        int n = values.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Quantile of an empty array");
+        }
+        double[] scratch = values.clone();
+        double h = (n - 1) * p;
+        int lower = (int) h;
+        double value = select(scratch, 0, n, lower);
+        if (lower + 1 < n && h > lower) {
+            // The next rank is the smallest of scratch[lower + 1, n), or a NaN if all of it is NaN
+            double next = sortedZero(scratch, 0, n, lower + 1, min(scratch, lower + 1, n));
+            value += (h - lower) * (next - value);
+        }
+        return value;
+    }
+    
+    /**
+     * Method to find several quantiles at once. The ranks are all placed by one
+     * recursive partitioning of a single copy, so asking for the quartiles
+     * costs far less than three separate quantile calls.
+     * 
+     * @param probabilities each in [0, 1], in any order
+     * @return the quantiles, in the order the probabilities were given
+     */
+    public static double[] quantiles(double[] values, double... probabilities) {
+        int n = values.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Quantiles of an empty array");
+        }
+        double[] scratch = values.clone();
+        int[] ranks = quantileRanks(n, probabilities);
+        int end = moveNaNsToEnd(scratch, 0, n);
+        int finiteRanks = 0;
+        while (finiteRanks < ranks.length && ranks[finiteRanks] < end) {
+            finiteRanks++;
+        }
+        multiSelect(scratch, 0, end - 1, ranks, 0, finiteRanks, depthLimit(end));
+        
+        double[] result = new double[probabilities.length];
+        for (int q = 0; q < probabilities.length; q++) {
+            double h = (n - 1) * probabilities[q];
+            int lower = (int) h;
+            double value = sortedZero(scratch, 0, n, lower, scratch[lower]);
+            if (lower + 1 < n && h > lower) {
+                value += (h - lower) * (sortedZero(scratch, 0, n, lower + 1, scratch[lower + 1]) - value);
+            }
+            result[q] = value;
+        }
+        return result;
+    }
+    
+    /**
+     * Helper method: quickselect on values[lo, hi] with a three-way partition
+     * (runs of equal values are settled in one step). After budget rounds
+     * the pivot comes from median of medians, which bounds the worst case
+     * to O(n) whatever the input order.
+     */
+    private static void introSelect(double[] values, int lo, int hi, int k, int budget) {
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            double pivot = budget-- > 0 ? samplePivot(values, lo, hi) : medianOfMedians(values, lo, hi);
+            
+            // Dijkstra partition: [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi] > pivot
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                double value = values[i];
+                if (value < pivot) {
+                    values[i++] = values[lt];
+                    values[lt++] = value;
+                } else if (value > pivot) {
+                    values[i] = values[gt];
+                    values[gt--] = value;
+                } else {
+                    i++;
+                }
+            }
+            
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(values, lo, hi);
+    }
+    
+    /**
+     * Helper method: introSelect for several sorted ranks[rFrom, rTo) at once.
+     * Each partition sends every rank to the side it lies in, so ranks that
+     * share a subrange also share its partitioning work.
+     */
+    private static void multiSelect(double[] values, int lo, int hi, int[] ranks, int rFrom, int rTo, int budget) {
+        while (rFrom < rTo) {
+            if (rTo - rFrom == 1) {
+                introSelect(values, lo, hi, ranks[rFrom], budget);
+                return;
+            }
+            if (hi - lo < INSERTION_SORT_THRESHOLD) {
+                insertionSort(values, lo, hi);
+                return;
+            }
+            double pivot = budget-- > 0 ? samplePivot(values, lo, hi) : medianOfMedians(values, lo, hi);
+            
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                double value = values[i];
+                if (value < pivot) {
+                    values[i++] = values[lt];
+                    values[lt++] = value;
+                } else if (value > pivot) {
+                    values[i] = values[gt];
+                    values[gt--] = value;
+                } else {
+                    i++;
+                }
+            }
+            
+            // Ranks below lt go left, ranks inside [lt, gt] are settled, the rest go right
+            int leftEnd = rFrom;
+            while (leftEnd < rTo && ranks[leftEnd] < lt) {
+                leftEnd++;
+            }
+            int rightStart = leftEnd;
+            while (rightStart < rTo && ranks[rightStart] <= gt) {
+                rightStart++;
+            }
+            multiSelect(values, lo, lt - 1, ranks, rFrom, leftEnd, budget);
+            lo = gt + 1;
+            rFrom = rightStart;
+        }
+    }
+    
+    /**
+     * Helper method: pivot value from a median of 3 samples, or Tukey's
+     * ninther (median of three medians of 3) for large ranges
+     */
+    private static double samplePivot(double[] values, int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        if (hi - lo < NINTHER_THRESHOLD) {
+            return median3(values[lo], values[mid], values[hi]);
+        }
+        int step = (hi - lo) / 8;
+        return median3(
+            median3(values[lo], values[lo + step], values[lo + 2 * step]),
+            median3(values[mid - step], values[mid], values[mid + step]),
+            median3(values[hi - 2 * step], values[hi - step], values[hi]));
+    }
+    
+    /**
+     * Helper method: median-of-medians pivot for values[lo, hi]. Sorts each
+     * group of 5, gathers the group medians at the front and selects their
+     * median (recursively, again by median of medians). The pivot is
+     * guaranteed to have at least 30% of the range on each side.
+     */
+    private static double medianOfMedians(double[] values, int lo, int hi) {
+        int medians = lo;
+        for (int group = lo; group <= hi; group += 5) {
+            int groupEnd = Math.min(group + 4, hi);
+            insertionSort(values, group, groupEnd);
+            int middle = group + (groupEnd - group) / 2;
+            double median = values[middle];
+            values[middle] = values[medians];
+            values[medians++] = median;
+        }
+        int mid = lo + (medians - 1 - lo) / 2;
+        introSelect(values, lo, medians - 1, mid, 0);
+        return values[mid];
+    }
+    
+    /**
+     * Helper method: sort values[lo, hi] (small ranges only)
+     */
+    private static void insertionSort(double[] values, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            double value = values[i];
+            int j = i - 1;
+            while (j >= lo && values[j] > value) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+    
+    /**
+     * Helper method: move the NaNs of values[from, to) to its end, where
+     * Arrays.sort puts them, and return the index of the first one
+     */
+    private static int moveNaNsToEnd(double[] values, int from, int to) {
+        int end = to;
+        int i = from;
+        while (i < end) {
+            double value = values[i];
+            if (value != value) {
+                values[i] = values[--end];
+                values[end] = value;
+            } else {
+                i++;
+            }
+        }
+        return end;
+    }
+    
+    /**
+     * Helper method: value, or if it is a zero, the zero Arrays.sort would put
+     * at rank of values[from, to). The partition compares with < and >, for
+     * which -0.0 and 0.0 are equal; in sorted order the negative zeros come first.
+     */
+    private static double sortedZero(double[] values, int from, int to, int rank, double value) {
+        if (value != 0) {
+            return value;
+        }
+        int belowZero = 0;
+        for (int i = from; i < to; i++) {
+            double v = values[i];
+            if (v < 0 || (v == 0 && Double.doubleToRawLongBits(v) != 0)) {
+                belowZero++;
+            }
+        }
+        return rank - from < belowZero ? -0.0 : 0.0;
+    }
+    
+    private static double median3(double a, double b, double c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+    
+    private static double max(double[] values, int from, int to) {
+        double max = values[from];
+        for (int i = from + 1; i < to; i++) {
+            if (values[i] > max) max = values[i];
+        }
+        return max;
+    }
+    
+    private static double min(double[] values, int from, int to) {
+        double min = values[from];
+        for (int i = from + 1; i < to; i++) {
+            if (values[i] < min) min = values[i];
+        }
+        return min;
+    }
+    
+    // int versions (NMSRainfall readings)
+    
+    /**
+     * Method to find the k-th smallest int (see select for double[])
+     */
+    public static int select(int[] values, int from, int to, int k) {
+        checkRange(values.length, from, to, k);
+        introSelect(values, from, to - 1, k, depthLimit(to - from));
+        return values[k];
+    }
+    
+    /**
+     * Method to find the median of ints without modifying the array
+     */
+    public static double median(int[] values) {
+        return medianInPlace(values.clone());
+    }
+    
+    /**
+     * Method to find the median of ints, reordering the array
+     */
+    public static double medianInPlace(int[] values) {
+        int n = values.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Median of an empty array");
+        }
+        int k = n / 2;
+        int upper = select(values, 0, n, k);
+        if (n % 2 != 0) {
+            return upper;
+        }
+        // After select, the lower middle value is the largest of values[0, k)
+        return ((double) max(values, 0, k) + upper) / 2.0;
+    }
+    
+    /**
+     * Method to find the p-quantile of ints (see quantile for double[])
+     */
+    public static double quantile(int[] values, double p) {
+        checkProbability(p);
+        int n = values.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Quantile of an empty array");
+        }
+        int[] scratch = values.clone();
+        double h = (n - 1) * p;
+        int lower = (int) h;
+        double value = select(scratch, 0, n, lower);
+        if (lower + 1 < n && h > lower) {
+            value += (h - lower) * (min(scratch, lower + 1, n) - value);
+        }
+        return value;
+    }
+    
+    /**
+     * Method to find several quantiles of ints with one partitioning
+     */
+    public static double[] quantiles(int[] values, double... probabilities) {
+        int n = values.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Quantiles of an empty array");
+        }
+        int[] scratch = values.clone();
+        int[] ranks = quantileRanks(n, probabilities);
+        multiSelect(scratch, 0, n - 1, ranks, 0, ranks.length, depthLimit(n));
+        
+        double[] result = new double[probabilities.length];
+        for (int q = 0; q < probabilities.length; q++) {
+            double h = (n - 1) * probabilities[q];
+            int lower = (int) h;
+            result[q] = scratch[lower];
+            if (lower + 1 < n && h > lower) {
+                result[q] += (h - lower) * ((double) scratch[lower + 1] - scratch[lower]);
+            }
+        }
+        return result;
+    }
+    
+    private static void introSelect(int[] values, int lo, int hi, int k, int budget) {
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            int pivot = budget-- > 0 ? samplePivot(values, lo, hi) : medianOfMedians(values, lo, hi);
+            
+            // Dijkstra partition: [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi] > pivot
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                int value = values[i];
+                if (value < pivot) {
+                    values[i++] = values[lt];
+                    values[lt++] = value;
+                } else if (value > pivot) {
+                    values[i] = values[gt];
+                    values[gt--] = value;
+                } else {
+                    i++;
+                }
+            }
+            
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(values, lo, hi);
+    }
+    
+    private static void multiSelect(int[] values, int lo, int hi, int[] ranks, int rFrom, int rTo, int budget) {
+        while (rFrom < rTo) {
+            if (rTo - rFrom == 1) {
+                introSelect(values, lo, hi, ranks[rFrom], budget);
+                return;
+            }
+            if (hi - lo < INSERTION_SORT_THRESHOLD) {
+                insertionSort(values, lo, hi);
+                return;
+            }
+            int pivot = budget-- > 0 ? samplePivot(values, lo, hi) : medianOfMedians(values, lo, hi);
+            
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                int value = values[i];
+                if (value < pivot) {
+                    values[i++] = values[lt];
+                    values[lt++] = value;
+                } else if (value > pivot) {
+                    values[i] = values[gt];
+                    values[gt--] = value;
+                } else {
+                    i++;
+                }
+            }
+            
+            // Ranks below lt go left, ranks inside [lt, gt] are settled, the rest go right
+            int leftEnd = rFrom;
+            while (leftEnd < rTo && ranks[leftEnd] < lt) {
+                leftEnd++;
+            }
+            int rightStart = leftEnd;
+            while (rightStart < rTo && ranks[rightStart] <= gt) {
+                rightStart++;
+            }
+            multiSelect(values, lo, lt - 1, ranks, rFrom, leftEnd, budget);
+            lo = gt + 1;
+            rFrom = rightStart;
+        }
+    }
+    
+    private static int samplePivot(int[] values, int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        if (hi - lo < NINTHER_THRESHOLD) {
+            return median3(values[lo], values[mid], values[hi]);
+        }
+        int step = (hi - lo) / 8;
+        return median3(
+            median3(values[lo], values[lo + step], values[lo + 2 * step]),
+            median3(values[mid - step], values[mid], values[mid + step]),
+            median3(values[hi - 2 * step], values[hi - step], values[hi]));
+    }
+    
+    private static int medianOfMedians(int[] values, int lo, int hi) {
+        int medians = lo;
+        for (int group = lo; group <= hi; group += 5) {
+            int groupEnd = Math.min(group + 4, hi);
+            insertionSort(values, group, groupEnd);
+            int middle = group + (groupEnd - group) / 2;
+            int median = values[middle];
+            values[middle] = values[medians];
+            values[medians++] = median;
+        }
+        int mid = lo + (medians - 1 - lo) / 2;
+        introSelect(values, lo, medians - 1, mid, 0);
+        return values[mid];
+    }
+    
+    private static void insertionSort(int[] values, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            int value = values[i];
+            int j = i - 1;
+            while (j >= lo && values[j] > value) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+    
+    private static int median3(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+    
+    private static int max(int[] values, int from, int to) {
+        int max = values[from];
+        for (int i = from + 1; i < to; i++) {
+            if (values[i] > max) max = values[i];
+        }
+        return max;
+    }
+    
+    private static int min(int[] values, int from, int to) {
+        int min = values[from];
+        for (int i = from + 1; i < to; i++) {
+            if (values[i] < min) min = values[i];
+        }
+        return min;
+    }
+    
+    /**
+     * Helper method: the sorted, distinct ranks needed to interpolate the
+     * given probabilities in an array of length n
+     */
+    private static int[] quantileRanks(int n, double[] probabilities) {
+        int[] ranks = new int[2 * probabilities.length];
+        int count = 0;
+        for (double p : probabilities) {
+            checkProbability(p);
+            double h = (n - 1) * p;
+            int lower = (int) h;
+            ranks[count++] = lower;
+            if (lower + 1 < n && h > lower) {
+                ranks[count++] = lower + 1;
+            }
+        }
+        Arrays.sort(ranks, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ranks[i] != ranks[distinct - 1]) {
+                ranks[distinct++] = ranks[i];
+            }
+        }
+        return Arrays.copyOf(ranks, distinct);
+    }
+    
+    /**
+     * Helper method: quickselect rounds allowed before falling back to median of medians
+     */
+    private static int depthLimit(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
+    }
+    
+    private static void checkRange(int length, int from, int to, int k) {
+        if (from < 0 || to > length || from >= to || k < from || k >= to) {
+            throw new IllegalArgumentException(
+                "Rank " + k + " is outside [" + from + ", " + to + ") of an array of length " + length);
+        }
+    }
+    
+    private static void checkProbability(double p) {
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException("Probability must be in [0, 1]: " + p);
+        }
+    }
+    
+    /**
+     * Benchmark mode: java Selection --benchmark [max size]
+     * Sizes 1K, 10K, ... up to max size (default 10M; 100M needs about
+     * 2 GB of heap, e.g. java -Xmx3g Selection --benchmark 100000000).
+     * Every method includes copying the input, as median/quantiles do.
+     */
+    public static void runBenchmark(int maxSize) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("    SELECTION BENCHMARK (random doubles, ms per call, best of runs)");
+        System.out.println("=".repeat(70));
+        System.out.printf("%nmedian: clone + Arrays.sort vs Selection.median%n");
+        System.out.printf("5 quantiles (P10, P25, P50, P75, P90): clone + Arrays.sort vs one%n");
+        System.out.printf("quantiles call vs 5 separate quantile calls%n%n");
+        System.out.printf("%12s %10s %10s %8s %10s %10s %10s %8s%n",
+            "n", "sort", "median", "speedup", "sort x5", "quantiles", "5 x single", "speedup");
+        System.out.println("-".repeat(84));
+        
+        Random random = new Random(50);
+        for (long size = 1_000; size <= maxSize; size *= 10) {
+            int n = (int) size;
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextGaussian();
+            }
+            // Repeat small sizes so each timing covers a few milliseconds
+            int repeats = Math.max(1, 1_000_000 / n);
+            int runs = n >= 10_000_000 ? 2 : 5;
+            
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            double expectedMedian = n % 2 == 0 ? (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0 : sorted[n / 2];
+            boolean correct = median(values) == expectedMedian;
+            double[] expected = new double[BENCHMARK_PROBABILITIES.length];
+            for (int q = 0; q < expected.length; q++) {
+                double h = (n - 1) * BENCHMARK_PROBABILITIES[q];
+                int lower = (int) h;
+                expected[q] = sorted[lower] + (h - lower) * (sorted[lower + 1] - sorted[lower]);
+            }
+            correct &= Arrays.equals(quantiles(values, BENCHMARK_PROBABILITIES), expected);
+            sorted = null;
+            
+            double[] millis = new double[5];
+            for (int variant = 0; variant < millis.length; variant++) {
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < runs; run++) {
+                    long start = System.nanoTime();
+                    for (int r = 0; r < repeats; r++) {
+                        benchmarkSink += benchmarkVariant(variant, values);
+                    }
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                millis[variant] = best / 1e6 / repeats;
+            }
+            System.out.printf("%,12d %10.3f %10.3f %7.1fx %10.3f %10.3f %10.3f %7.1fx%s%n",
+                n, millis[0], millis[1], millis[0] / millis[1],
+                millis[2], millis[3], millis[4], millis[2] / millis[3],
+                correct ? "" : "  MISMATCH");
+        }
+        System.out.println();
+    }
+    
+    /**
+     * Helper method: one call of a benchmarked method (0, 2 sort; 1, 3, 4 select)
+     */
+    private static double benchmarkVariant(int variant, double[] values) {
+        switch (variant) {
+            case 0:
+            case 2: {
+                double[] sorted = values.clone();
+                Arrays.sort(sorted);
+                return sorted[sorted.length / 2];
+            }
+            case 1:
+                return median(values);
+            case 3:
+                return quantiles(values, BENCHMARK_PROBABILITIES)[0];
+            default: {
+                double sum = 0;
+                for (double p : BENCHMARK_PROBABILITIES) {
+                    sum += quantile(values, p);
+                }
+                return sum;
+            }
+        }
+    }
+    
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--benchmark")) {
+            runBenchmark(args.length > 1 ? Integer.parseInt(args[1]) : 10_000_000);
+            return;
+        }
+        
+        double[] example = {7.5, 1.0, 3.25, 9.0, 4.0, 2.5};
+        System.out.println("Values:    " + Arrays.toString(example));
+        System.out.println("Median:    " + median(example));
+        System.out.println("Quartiles: " + Arrays.toString(quantiles(example, 0.25, 0.5, 0.75)));
+        System.out.println("\nRun with --benchmark [max size] to compare with Arrays.sort.");
+    }
+}